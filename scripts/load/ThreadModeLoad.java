@@ -0,0 +1,199 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스레드 모드 비교용 부하 발생기 (JDK 만 사용, 빌드 없이 java ThreadModeLoad.java ... 로 실행)
+ * 동시 사용자 수만큼 작업자가 응답을 받자마자 다음 요청을 보내고(closed loop),
+ * 끝나면 "시나리오 | 요청 수 | 처리량(rps) | p50 | p95 | p99 (ms) | 2xx | 429 | 그 외 4xx | 5xx | 연결 오류" 한 줄을 출력한다.
+ *
+ * 시나리오
+ * - detail:  GET /api/vehicles/{id} (id 는 --min-id ~ --max-id 에서 무작위, 응답 캐시를 거치지 않고 요청마다 DB 조회)
+ * - listing: GET /api/vehicles?page=0&size=10 (응답 캐시 적중 경로, 스레드 모드 차이가 거의 드러나지 않음)
+ * - bid:     POST /api/auctions/bids (토큰 파일의 사용자들이 돌아가며 입찰가를 올려 입찰, 한 경매에 몰리면 대부분 429)
+ *
+ * 옵션
+ *   --base-url http://localhost:8080   --scenario detail|listing|bid   --duration 30 (초)   --concurrency 200
+ *   --min-id 1   --max-id 100 (detail)
+ *   --tokens tokens.txt (bid, 한 줄에 액세스 토큰 하나)   --auction-id 1   --start-price 1000000   --step 10000
+ */
+public class ThreadModeLoad {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String scenario = options.getOrDefault("scenario", "detail");
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        RequestFactory factory;
+        if ("bid".equals(scenario)) {
+            List<String> tokens = Files.readAllLines(Path.of(options.get("tokens"))).stream()
+                    .map(String::trim)
+                    .filter(token -> !token.isEmpty())
+                    .toList();
+            if (tokens.isEmpty()) {
+                throw new IllegalArgumentException("토큰 파일이 비어 있습니다.");
+            }
+            long auctionId = Long.parseLong(options.getOrDefault("auction-id", "1"));
+            long step = Long.parseLong(options.getOrDefault("step", "10000"));
+            AtomicLong price = new AtomicLong(Long.parseLong(options.getOrDefault("start-price", "1000000")));
+            AtomicLong sequence = new AtomicLong();
+            factory = () -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auctions/bids"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + tokens.get((int) (sequence.getAndIncrement() % tokens.size())))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"auctionId\":" + auctionId + ",\"bidPrice\":" + price.addAndGet(step) + "}"))
+                    .build();
+        } else if ("detail".equals(scenario)) {
+            long minId = Long.parseLong(options.getOrDefault("min-id", "1"));
+            long maxId = Long.parseLong(options.getOrDefault("max-id", "100"));
+            if (minId > maxId) {
+                throw new IllegalArgumentException("--min-id 가 --max-id 보다 큽니다.");
+            }
+            factory = () -> HttpRequest.newBuilder(URI.create(
+                            baseUrl + "/api/vehicles/" + ThreadLocalRandom.current().nextLong(minId, maxId + 1)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        } else if ("listing".equals(scenario)) {
+            HttpRequest listing = HttpRequest.newBuilder(URI.create(baseUrl + "/api/vehicles?page=0&size=10"))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            factory = () -> listing;
+        } else {
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        }
+
+        long deadline = System.nanoTime() + durationNanos;
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> run(client, factory, deadline)));
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        workers.shutdown();
+
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+        System.out.printf("%s | %d | %.1f | %.1f | %.1f | %.1f | %d | %d | %d | %d | %d%n",
+                scenario, total.count, total.count / elapsedSeconds,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                total.success, total.tooMany, total.clientError, total.serverError, total.failed);
+    }
+
+    private static Result run(HttpClient client, RequestFactory factory, long deadline) {
+        Result result = new Result();
+        while (System.nanoTime() < deadline) {
+            long begin = System.nanoTime();
+            int status;
+            try {
+                status = client.send(factory.create(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            result.record(System.nanoTime() - begin, status);
+        }
+        return result;
+    }
+
+    // 정렬된 지연 시간(ns)의 백분위수 (ms)
+    private static double percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create();
+    }
+
+    /**
+     * 작업자별 결과 (작업자 스레드 안에서만 갱신하고 끝난 뒤 합침)
+     */
+    private static final class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long success;
+        private long tooMany;
+        private long clientError;
+        private long serverError;
+        private long failed;
+
+        private void record(long latencyNanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (status < 0) {
+                failed++;
+            } else if (status < 300) {
+                success++;
+            } else if (status == 429) {
+                tooMany++;
+            } else if (status < 500) {
+                clientError++;
+            } else {
+                serverError++;
+            }
+        }
+
+        private void merge(Result other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            success += other.success;
+            tooMany += other.tooMany;
+            clientError += other.clientError;
+            serverError += other.serverError;
+            failed += other.failed;
+        }
+    }
+}
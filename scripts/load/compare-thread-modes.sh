@@ -0,0 +1,123 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드 처리량·메모리 비교
+#
+# 같은 JAR 과 같은 JVM(Java 21)으로 spring.threads.virtual.enabled 만 바꿔 두 번 기동하고,
+# 각 모드에서 차량 상세 조회 부하를 건 뒤 결과를 build/load/ 아래 표로 남긴다.
+# 상세 조회는 응답 캐시를 거치지 않고 요청마다 DB 를 조회하므로 요청 스레드가 I/O 로 막히는 경로다
+# (목록은 응답 캐시, 입찰은 경매별 큐/속도 제한에서 대부분 처리되어 스레드 모드 차이를 보기 어렵다).
+# 메모리는 서버 프로세스의 최대 RSS(VmHWM), 스레드는 부하 중 1초마다 잰 OS 스레드 수의 최댓값이다.
+#
+# 사용법
+#   JAVA21_HOME=/path/to/jdk-21 \
+#   APP_ARGS="--spring.config.additional-location=/path/to/application.yml" \
+#   MIN_ID=1 MAX_ID=500 \
+#   scripts/load/compare-thread-modes.sh
+#
+# 환경 변수 (기본값)
+#   PORT=8080  DURATION=30 (초)  CONCURRENCY=200  WARMUP=10 (초)  HEAP=512m
+#   MIN_ID=1 / MAX_ID=100  상세 조회할 차량 id 범위 (존재하는 차량 id 로 맞춰야 2xx)
+#   BID_TOKENS  입찰 시나리오용 액세스 토큰 파일 (한 줄에 하나, 없으면 입찰 시나리오 생략, 결과는 주로 429 비율)
+#   AUCTION_ID / START_PRICE / STEP  입찰 대상 경매와 입찰가
+#   (두 모드가 같은 입찰가부터 시작하므로 재기동 시 초기화되는 DB 를 쓰지 않으면 두 번째 모드는 최저가 미달 4xx 가 된다)
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+cd "$ROOT"
+
+JAVA="${JAVA21_HOME:-${JAVA_HOME:-}}/bin/java"
+PORT="${PORT:-8080}"
+DURATION="${DURATION:-30}"
+CONCURRENCY="${CONCURRENCY:-200}"
+WARMUP="${WARMUP:-10}"
+HEAP="${HEAP:-512m}"
+MIN_ID="${MIN_ID:-1}"
+MAX_ID="${MAX_ID:-100}"
+APP_ARGS="${APP_ARGS:-}"
+BASE_URL="http://localhost:${PORT}"
+LOAD="scripts/load/ThreadModeLoad.java"
+
+OUT_DIR="build/load"
+OUT="${OUT_DIR}/thread-modes-$(date +%Y%m%d-%H%M%S).md"
+mkdir -p "$OUT_DIR"
+
+# 가상 스레드 모드에 필요한 Java 21 툴체인으로 한 번만 빌드
+./gradlew -q bootJar -PvirtualThreads
+JAR="$(ls build/libs/*.jar | grep -v -- '-plain' | head -n 1)"
+
+# 부하 동안 서버 스레드 수를 1초마다 재서 최댓값을 파일에 남김
+sample_threads() {
+    local pid=$1 file=$2 max=0 current
+    while kill -0 "$pid" 2>/dev/null; do
+        current=$(awk '/^Threads:/ {print $2}' "/proc/${pid}/status" 2>/dev/null || echo 0)
+        if [ "${current:-0}" -gt "$max" ]; then
+            max=$current
+            echo "$max" > "$file"
+        fi
+        sleep 1
+    done
+}
+
+run_scenario() {
+    local mode=$1 pid=$2 scenario=$3
+    shift 3
+    local threads_file="${OUT_DIR}/${mode}-${scenario}.threads"
+    echo 0 > "$threads_file"
+
+    sample_threads "$pid" "$threads_file" &
+    local sampler=$!
+    local row
+    row=$("$JAVA" "$LOAD" --base-url "$BASE_URL" --scenario "$scenario" \
+        --duration "$DURATION" --concurrency "$CONCURRENCY" "$@")
+    kill "$sampler" 2>/dev/null || true
+
+    local rss_mb=$(( $(awk '/^VmHWM:/ {print $2}' "/proc/${pid}/status") / 1024 ))
+    echo "| ${mode} | ${row} | ${rss_mb} | $(cat "$threads_file") |" | tee -a "$OUT"
+}
+
+run_mode() {
+    local mode=$1 virtual=$2
+    echo "== ${mode} (spring.threads.virtual.enabled=${virtual})"
+
+    # shellcheck disable=SC2086
+    "$JAVA" "-Xmx${HEAP}" -jar "$JAR" --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" $APP_ARGS > "${OUT_DIR}/${mode}.log" 2>&1 &
+    local pid=$!
+
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null "${BASE_URL}/api/vehicles?page=0&size=1"; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "서버 기동 실패: ${OUT_DIR}/${mode}.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    # JIT/커넥션 풀 예열 (결과 버림)
+    "$JAVA" "$LOAD" --base-url "$BASE_URL" --scenario detail --min-id "$MIN_ID" --max-id "$MAX_ID" \
+        --duration "$WARMUP" --concurrency "$CONCURRENCY" > /dev/null
+
+    run_scenario "$mode" "$pid" detail --min-id "$MIN_ID" --max-id "$MAX_ID"
+    if [ -n "${BID_TOKENS:-}" ]; then
+        run_scenario "$mode" "$pid" bid --tokens "$BID_TOKENS" \
+            --auction-id "${AUCTION_ID:-1}" --start-price "${START_PRICE:-1000000}" --step "${STEP:-10000}"
+    fi
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+{
+    echo "# 스레드 모드 비교 ($(date '+%Y-%m-%d %H:%M'), $("$JAVA" -version 2>&1 | head -n 1))"
+    echo
+    echo "동시 사용자 ${CONCURRENCY}명, ${DURATION}초, 힙 ${HEAP}"
+    echo
+    echo "| 모드 | 시나리오 | 요청 수 | rps | p50 ms | p95 ms | p99 ms | 2xx | 429 | 그 외 4xx | 5xx | 연결 오류 | 최대 RSS MB | 최대 스레드 |"
+    echo "|---|---|---|---|---|---|---|---|---|---|---|---|---|---|"
+} > "$OUT"
+
+run_mode platform false
+run_mode virtual true
+
+echo "결과: ${OUT}"
@@ -0,0 +1,72 @@
+package com.trever.backend.api.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 요청당 토큰 처리 비용 비교
+ * - validateThenParse: 변경 전 경로 (요청마다 파서를 만들어 검증 1회 + 클레임 파싱 1회)
+ * - parseOnce:         공유 파서로 서명 검증과 클레임 파싱을 한 번에 (캐시 미스)
+ * - authenticate:      JwtFilter 가 호출하는 현재 경로 (같은 토큰 재요청 = 캐시 적중)
+ *
+ * 실행: ./gradlew jmh -PjmhArgs="JwtProviderBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+
+    private JwtProvider jwtProvider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "bench@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtProvider.generateAccessToken(1L, authentication);
+    }
+
+    @Benchmark
+    public Claims validateThenParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return jwtProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtProvider.authenticate(token);
+    }
+}
@@ -59,6 +59,8 @@ public class QVehicle extends EntityPathBase<Vehicle> {
 
     public final StringPath model = createString("model");
 
+    public final NumberPath<Long> optionMask = createNumber("optionMask", Long.class);
+
     public final ListPath<VehicleOptionMapping, QVehicleOptionMapping> optionMappings = this.<VehicleOptionMapping, QVehicleOptionMapping>createList("optionMappings", VehicleOptionMapping.class, QVehicleOptionMapping.class, PathInits.DIRECT2);
 
     public final ListPath<VehiclePhoto, QVehiclePhoto> photos = this.<VehiclePhoto, QVehiclePhoto>createList("photos", VehiclePhoto.class, QVehiclePhoto.class, PathInits.DIRECT2);
@@ -3,6 +3,8 @@ package com.trever.backend.api.auction.controller;
 import com.trever.backend.api.auction.dto.*;
 import com.trever.backend.api.auction.entity.AuctionStatus;
 import com.trever.backend.api.auction.service.AuctionService;
+import com.trever.backend.api.auction.service.BidRateLimiter;
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ApiResponse;
 import com.trever.backend.common.response.ErrorStatus;
@@ -16,17 +18,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 @Tag(name = "Auction", description = "경매 API")
 @Slf4j
@@ -36,6 +34,7 @@ import java.util.concurrent.CompletionException;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final BidRateLimiter bidRateLimiter;
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
     
@@ -81,72 +80,34 @@ public class AuctionController {
     }
 
     /**
-     * 입찰하기 - 비동기 처리 후 결과 반환
+     * 입찰하기 - 큐 처리 결과를 비동기로 반환 (대기 중에는 요청 스레드를 점유하지 않음)
+     * 실패는 ControllerExceptionAdvice 에서 예외 종류별 상태 코드로 응답한다.
      */
     @PostMapping("/bids")
-    public ResponseEntity<ApiResponse<?>> placeBid(
+    public CompletableFuture<ResponseEntity<ApiResponse<BidResponse>>> placeBid(
             @Valid @RequestBody BidRequest bidRequest,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId Long userId
     ) {
-        try {
-            Long auctionId = bidRequest.getAuctionId();
-            String email = userDetails.getUsername();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+        // 속도 제한 초과는 DB 조회 없이 바로 429 (ControllerExceptionAdvice)
+        bidRateLimiter.acquire(userId, bidRequest.getAuctionId());
 
-            bidRequest.setAuctionId(auctionId);
-            
-            // CompletableFuture 결과를 동기적으로 대기하여 예외를 즉시 포착
-            BidResponse response = auctionService.placeBid(bidRequest, user).join();
-            
-            return ResponseEntity.ok(ApiResponse.<BidResponse>builder()
-                    .status(SuccessStatus.CREATE_BID_SUCCESS.getStatusCode())
-                    .success(true)
-                    .message(SuccessStatus.CREATE_BID_SUCCESS.getMessage())
-                    .data(response)
-                    .build());
-                    
-        } catch (CompletionException ex) {
-            // CompletableFuture에서 발생한 예외 처리
-            Throwable cause = ex.getCause();
-            while (cause.getCause() != null) {
-                cause = cause.getCause();
-            }
-            
-            log.error("입찰 처리 중 오류 발생: {}", cause.getMessage());
-            
-            // 모든 예외를 400 Bad Request로 응답
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.builder()
-                            .status(400)
-                            .message(cause.getMessage())
-                            .build());
-                            
-        } catch (Exception e) {
-            // 기타 예외 처리
-            log.error("입찰 요청 처리 중 오류 발생: {}", e.getMessage());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.builder()
-                            .status(400)
-                            .message(e.getMessage())
-                            .build());
-        }
+        // 입찰 기록에 입찰자 이름이 필요해 엔티티는 PK 로 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+
+        return auctionService.placeBid(bidRequest, user)
+                .thenApply(response -> ApiResponse.success(SuccessStatus.CREATE_BID_SUCCESS, response));
     }
     
     @Operation(summary = "경매 취소", description = "경매를 취소합니다. 관리자 또는 판매자만 가능합니다.")
     @PostMapping("/{auctionId}/cancel")
     public ResponseEntity<ApiResponse<Void>> cancelAuction(
             @PathVariable Long auctionId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId Long userId
 
     ) {
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
         // 실제 구현 시에는 인증된 사용자의 권한 체크 필요
-        auctionService.cancelAuction(auctionId,user.getId());
+        auctionService.cancelAuction(auctionId,userId);
         return ApiResponse.success_only(SuccessStatus.AUCTION_CANCEL);
     }
 }
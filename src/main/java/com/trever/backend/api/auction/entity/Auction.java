@@ -13,7 +13,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "auctions")
+@Table(
+        name = "auctions",
+        indexes = {
+                // 종료/시작 스케줄러: 상태 + 종료/시작 시각 범위
+                @Index(name = "idx_auctions_status_end_at", columnList = "status, end_at"),
+                @Index(name = "idx_auctions_status_start_at", columnList = "status, start_at")
+        }
+)
 public class Auction extends BaseTimeEntity {
     
     @Id
@@ -13,7 +13,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "bids")
+@Table(
+        name = "bids",
+        indexes = {
+                // 경매별 최고 입찰 조회 (입찰가 내림차순, 동일 금액은 먼저 입찰한 순)
+                @Index(name = "idx_bids_auction_price_created", columnList = "auction_id, bid_price DESC, created_at")
+        }
+)
 public class Bid extends BaseTimeEntity {
     
     @Id
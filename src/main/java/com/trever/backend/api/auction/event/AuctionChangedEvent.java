@@ -0,0 +1,15 @@
+package com.trever.backend.api.auction.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 정보(상태, 현재가 등) 변경 이벤트
+ * 입찰/시작/종료/취소 시 발행하며, 커밋 후 경매 관련 캐시 무효화에 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionChangedEvent {
+
+    private final Long auctionId;
+}
@@ -7,14 +7,24 @@ import com.trever.backend.api.auction.repository.AuctionRepository;
 import com.trever.backend.api.user.entity.User;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.NotFoundException;
+import com.trever.backend.common.exception.ServiceUnavailableException;
+import com.trever.backend.common.exception.TooManyRequestsException;
+import com.trever.backend.common.response.ErrorStatus;
+import com.trever.backend.common.util.HashedWheelTimer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -23,15 +33,47 @@ public class AuctionBidQueueService {
 
     private final AuctionBidTransactionService auctionBidTransactionService;
     private final AuctionRepository auctionRepository;
+    private final Environment environment;
     
     // 경매 ID별 입찰 큐
-    private final Map<Long, Queue<BidTask>> bidQueues = new ConcurrentHashMap<>();
+    private final Map<Long, BidQueue> bidQueues = new ConcurrentHashMap<>();
     
     // 경매 ID별 처리 스레드
     private final Map<Long, Thread> processingThreads = new ConcurrentHashMap<>();
+
+    // 처리 스레드 생성기 (가상 스레드 모드면 가상 스레드)
+    private ThreadFactory processingThreadFactory;
     
-    // 타임아웃 처리를 위한 스케줄러
-    private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(1);
+    // 입찰 처리 마감 시간 (10초)
+    static final long BID_TIMEOUT_SECONDS = 10;
+
+    // 입찰 사이 대기 시간 (경매별 처리량 상한 = 초당 1000 / 50 = 20건)
+    static final long BID_INTERVAL_MILLIS = 50;
+
+    // 입찰 트랜잭션 평균 처리 시간 (측정 전 초기값 50ms, 최근 값에 1/8 가중치)
+    private volatile long averageBidNanos = TimeUnit.MILLISECONDS.toNanos(50);
+
+    // 입찰 마감 시간 타이머 (100ms 단위, 입찰마다 스케줄러 작업을 만들지 않고 완료 시 바로 취소)
+    private final HashedWheelTimer bidTimeoutTimer =
+            new HashedWheelTimer("AuctionBidTimeout", 100, TimeUnit.MILLISECONDS, 512);
+
+    /**
+     * spring.threads.virtual.enabled 이고 Java 21 이상이면 경매별 처리 스레드를 가상 스레드로 생성
+     * (처리 중 DB 트랜잭션과 50ms 대기로 대부분 블로킹 상태라 경매 수만큼 플랫폼 스레드를 두지 않는다)
+     */
+    @PostConstruct
+    public void initProcessingThreadFactory() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            processingThreadFactory = new VirtualThreadTaskExecutor("AuctionBid-").getVirtualThreadFactory();
+            log.info("입찰 처리 스레드: 가상 스레드 사용");
+        } else {
+            processingThreadFactory = runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);  // 데몬 스레드로 설정하여 애플리케이션 종료 시 자동 종료되게 함
+                return thread;
+            };
+        }
+    }
 
     /**
      * 입찰 요청을 큐에 넣고 비동기로 처리
@@ -57,27 +99,35 @@ public class AuctionBidQueueService {
             }
             
             Long auctionId = request.getAuctionId();
-            bidQueues.computeIfAbsent(auctionId, k -> new ConcurrentLinkedQueue<>())
-                    .add(new BidTask(request, bidder, future));
+            BidQueue queue = bidQueues.computeIfAbsent(auctionId, k -> new BidQueue());
+            BidTask task = new BidTask(request, bidder, future);
+
+            // 앞선 입찰을 처리하는 동안 마감 시간이 지날 만큼 밀려 있으면 큐에 넣지 않고 바로 거절
+            long perBidNanos = averageBidNanos + TimeUnit.MILLISECONDS.toNanos(BID_INTERVAL_MILLIS);
+            int maxDepth = (int) Math.max(1, TimeUnit.SECONDS.toNanos(BID_TIMEOUT_SECONDS) / perBidNanos);
+            if (!queue.offer(task, maxDepth)) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(perBidNanos * maxDepth));
+                throw new TooManyRequestsException(ErrorStatus.TOO_MANY_BID_REQUESTS.getMessage(), retryAfterSeconds);
+            }
+
+            // 마감 시간 설정: 초과 시 실패 처리하고 큐에서도 제거, 먼저 완료되면 마감 시간 취소
+            HashedWheelTimer.Timeout timeout = bidTimeoutTimer.schedule(() -> {
+                if (future.completeExceptionally(new TimeoutException(ErrorStatus.BID_PROCESSING_TIMEOUT.getMessage()))) {
+                    queue.remove(task);
+                    log.warn("입찰 처리 타임아웃 - 경매 ID: {}, 입찰자: {}", auctionId, bidder.getName());
+                }
+            }, BID_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            future.whenComplete((response, ex) -> timeout.cancel());
             
             // 해당 경매에 대한 처리 스레드가 없으면 새로 생성
             if (!processingThreads.containsKey(auctionId) || !processingThreads.get(auctionId).isAlive()) {
-                Thread thread = new Thread(() -> processBidQueue(auctionId));
+                Thread thread = processingThreadFactory.newThread(() -> processBidQueue(auctionId));
                 thread.setName("AuctionBid-" + auctionId);
-                thread.setDaemon(true);  // 데몬 스레드로 설정하여 애플리케이션 종료 시 자동 종료되게 함
                 thread.start();
                 processingThreads.put(auctionId, thread);
                 log.debug("입찰 처리 스레드 시작 - 경매 ID: {}", auctionId);
             }
             
-            // 타임아웃 설정 (10초)
-            scheduledExecutor.schedule(() -> {
-                if (!future.isDone()) {
-                    future.completeExceptionally(new TimeoutException("입찰 처리 시간이 초과되었습니다."));
-                    log.warn("입찰 처리 타임아웃 - 경매 ID: {}, 입찰자: {}", request.getAuctionId(), bidder.getName());
-                }
-            }, 10, TimeUnit.SECONDS);
-            
         } catch (Exception e) {
             // 큐에 추가하기 전에 발생한 예외는 즉시 반환
             future.completeExceptionally(e);
@@ -92,7 +142,7 @@ public class AuctionBidQueueService {
      */
     private void processBidQueue(Long auctionId) {
         try {
-            Queue<BidTask> queue = bidQueues.get(auctionId);
+            BidQueue queue = bidQueues.get(auctionId);
             if (queue == null) {
                 log.warn("큐가 존재하지 않음 - 경매 ID: {}", auctionId);
                 processingThreads.remove(auctionId);
@@ -130,7 +180,9 @@ public class AuctionBidQueueService {
                             auctionId, task.getBidder().getName(), task.getRequest().getBidPrice());
                     
                     // 입찰 처리
+                    long bidStart = System.nanoTime();
                     BidResponse response = auctionBidTransactionService.processPlaceBid(task.getRequest(), task.getBidder());
+                    recordBidTime(System.nanoTime() - bidStart);
                     
                     // 성공 시 결과 반환
                     if (!task.getFuture().isDone()) {
@@ -174,7 +226,7 @@ public class AuctionBidQueueService {
                 
                 // 부하 방지를 위한 짧은 대기
                 try {
-                    Thread.sleep(50);
+                    Thread.sleep(BID_INTERVAL_MILLIS);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
@@ -189,6 +241,56 @@ public class AuctionBidQueueService {
         }
     }
 
+    /**
+     * 입찰 처리 시간 반영 (경매별 처리 스레드가 동시에 갱신하므로 근사값)
+     */
+    private void recordBidTime(long elapsedNanos) {
+        long average = averageBidNanos;
+        averageBidNanos = average + (elapsedNanos - average) / 8;
+    }
+
+    /**
+     * 경매별 입찰 큐 (대기 건수를 따로 세어 size() 순회 없이 상한 확인)
+     */
+    private static final class BidQueue {
+        private final Queue<BidTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * 대기 건수가 maxDepth 미만일 때만 추가
+         */
+        private boolean offer(BidTask task, int maxDepth) {
+            while (true) {
+                int current = size.get();
+                if (current >= maxDepth) {
+                    return false;
+                }
+                if (size.compareAndSet(current, current + 1)) {
+                    tasks.add(task);
+                    return true;
+                }
+            }
+        }
+
+        private BidTask poll() {
+            BidTask task = tasks.poll();
+            if (task != null) {
+                size.decrementAndGet();
+            }
+            return task;
+        }
+
+        private void remove(BidTask task) {
+            if (tasks.remove(task)) {
+                size.decrementAndGet();
+            }
+        }
+
+        private boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+    }
+
     /**
      * 입찰 작업을 캡슐화하는 클래스
      */
@@ -231,22 +333,15 @@ public class AuctionBidQueueService {
     /**
      * 애플리케이션 종료 시 정리 작업
      */
+    @PreDestroy
     public void shutdown() {
-        scheduledExecutor.shutdown();
-        try {
-            if (!scheduledExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduledExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduledExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        bidTimeoutTimer.stop();
     }
     
     /**
-     * 타임아웃 예외
+     * 타임아웃 예외 (503)
      */
-    public static class TimeoutException extends RuntimeException {
+    public static class TimeoutException extends ServiceUnavailableException {
         public TimeoutException(String message) {
             super(message);
         }
@@ -5,6 +5,7 @@ import com.trever.backend.api.auction.dto.BidResponse;
 import com.trever.backend.api.auction.entity.Auction;
 import com.trever.backend.api.auction.entity.AuctionStatus;
 import com.trever.backend.api.auction.entity.Bid;
+import com.trever.backend.api.auction.event.AuctionChangedEvent;
 import com.trever.backend.api.auction.repository.AuctionRepository;
 import com.trever.backend.api.auction.repository.BidRepository;
 import com.trever.backend.api.user.entity.User;
@@ -14,6 +15,7 @@ import com.trever.backend.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -30,6 +32,7 @@ public class AuctionBidTransactionService {
     private final UserWalletService userWalletService;
     private final FirebaseRealtimeService firebaseRealtimeService;
     private final AuctionLockService auctionLockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 실제 입찰 처리 로직 (AuctionService에서 이동)
@@ -130,6 +133,7 @@ public class AuctionBidTransactionService {
             // 경매의 현재가 업데이트
             auction.setCurrentBidPrice(request.getBidPrice());
             auctionRepository.save(auction);
+            eventPublisher.publishEvent(new AuctionChangedEvent(auction.getId()));
 
             // 이전 최고 입찰자의 자금을 다시 지갑에 반환
             highestBid.ifPresent(previousBid -> {
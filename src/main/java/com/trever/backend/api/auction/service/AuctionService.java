@@ -4,12 +4,14 @@ import com.trever.backend.api.auction.dto.*;
 import com.trever.backend.api.auction.entity.Auction;
 import com.trever.backend.api.auction.entity.AuctionStatus;
 import com.trever.backend.api.auction.entity.Bid;
+import com.trever.backend.api.auction.event.AuctionChangedEvent;
 import com.trever.backend.api.auction.repository.AuctionRepository;
 import com.trever.backend.api.auction.repository.BidRepository;
 import com.trever.backend.api.trade.service.TransactionService;
 import com.trever.backend.api.user.entity.User;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
 import com.trever.backend.api.vehicle.repository.VehicleRepository;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.NotFoundException;
@@ -17,6 +19,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +45,7 @@ public class AuctionService {
     private final VehicleRepository vehicleRepository;
     private final FirebaseRealtimeService firebaseRealtimeService;
     private final AuctionBidQueueService auctionBidQueueService;
+    private final ApplicationEventPublisher eventPublisher;
 
     
     /**
@@ -60,6 +64,7 @@ public class AuctionService {
                 .build();
 
         auction = getAuction(auction);
+        eventPublisher.publishEvent(new AuctionChangedEvent(auction.getId()));
 
         // Firebase에 경매 정보 추가
         firebaseRealtimeService.updateAuctionData(auction);
@@ -202,6 +207,8 @@ public class AuctionService {
 
         auctionRepository.save(auction);
         vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getId()));
+        eventPublisher.publishEvent(new AuctionChangedEvent(auction.getId()));
 
     }
     
@@ -330,6 +337,7 @@ public class AuctionService {
         }
         
         auctionRepository.save(auction);
+        eventPublisher.publishEvent(new AuctionChangedEvent(auction.getId()));
     }
     
     /**
@@ -389,6 +397,7 @@ public class AuctionService {
         
         auction.setStatus(AuctionStatus.ACTIVE);
         auctionRepository.save(auction);
+        eventPublisher.publishEvent(new AuctionChangedEvent(auction.getId()));
         
         // Firebase에 상태 업데이트
         firebaseRealtimeService.updateAuctionStatus(auction.getId(), AuctionStatus.ACTIVE.name());
@@ -0,0 +1,138 @@
+package com.trever.backend.api.auction.service;
+
+import com.trever.backend.common.exception.TooManyRequestsException;
+import com.trever.backend.common.response.ErrorStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 입찰 요청 속도 제한 (사용자별 / 경매별 토큰 버킷)
+ * 버킷 상태는 "다음 토큰이 채워지는 이론적 시각" 하나(GCRA)로 표현해 키마다 AtomicLong 하나만 두고 CAS 로 갱신한다.
+ * DB 조회나 큐 등록 전에 호출해 초과 요청을 바로 429 로 돌려보낸다.
+ */
+@Slf4j
+@Component
+public class BidRateLimiter {
+
+    // 사용자별: 초당 2건, 최대 5건 연속
+    private static final Limit USER_LIMIT = new Limit(2, 5);
+
+    // 경매별: 처리 스레드가 비울 수 있는 속도(입찰 사이 대기만으로 초당 20건) 이하, 마감 시간 절반 분량까지 연속
+    // 트랜잭션 시간까지 반영한 실제 대기열 상한은 AuctionBidQueueService 가 큐에 넣을 때 확인한다
+    private static final int AUCTION_PERMITS_PER_SECOND = (int) (1000 / AuctionBidQueueService.BID_INTERVAL_MILLIS);
+    private static final Limit AUCTION_LIMIT = new Limit(AUCTION_PERMITS_PER_SECOND,
+            (int) (AUCTION_PERMITS_PER_SECOND * AuctionBidQueueService.BID_TIMEOUT_SECONDS / 2));
+
+    private final Map<Long, AtomicLong> userBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> auctionBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByUser = new LongAdder();
+    private final LongAdder rejectedByAuction = new LongAdder();
+
+    /**
+     * 입찰 허용 여부 확인 (초과 시 TooManyRequestsException)
+     */
+    public void acquire(Long userId, Long auctionId) {
+        long now = System.nanoTime();
+
+        long userWait = tryAcquire(userBuckets, userId, USER_LIMIT, now);
+        if (userWait > 0) {
+            rejectedByUser.increment();
+            throw rejected(userWait);
+        }
+
+        long auctionWait = tryAcquire(auctionBuckets, auctionId, AUCTION_LIMIT, now);
+        if (auctionWait > 0) {
+            rejectedByAuction.increment();
+            throw rejected(auctionWait);
+        }
+
+        allowed.increment();
+    }
+
+    /**
+     * 토큰 하나 사용 (성공 시 0, 실패 시 다음 토큰까지 남은 나노초)
+     */
+    private static long tryAcquire(Map<Long, AtomicLong> buckets, Long key, Limit limit, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long start = Math.max(theoreticalArrival, now);
+            long wait = start - now - limit.burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, start + limit.intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException(ErrorStatus.TOO_MANY_BID_REQUESTS.getMessage(), retryAfterSeconds);
+    }
+
+    /**
+     * 버킷이 가득 찬(한동안 요청이 없던) 키 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(bucket -> bucket.get() < now);
+        auctionBuckets.values().removeIf(bucket -> bucket.get() < now);
+    }
+
+    public Stats getStats() {
+        return new Stats(allowed.sum(), rejectedByUser.sum(), rejectedByAuction.sum());
+    }
+
+    /**
+     * 허용/거절 현황 기록 (10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void logStats() {
+        Stats stats = getStats();
+        if (stats.getRejectedByUser() > 0 || stats.getRejectedByAuction() > 0) {
+            log.info("입찰 속도 제한: 허용 {}건, 사용자 초과 {}건, 경매 초과 {}건",
+                    stats.getAllowed(), stats.getRejectedByUser(), stats.getRejectedByAuction());
+        }
+    }
+
+    /**
+     * 누적 허용/거절 통계
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final long allowed;
+        private final long rejectedByUser;
+        private final long rejectedByAuction;
+    }
+
+    private static final class Limit {
+        // 토큰 하나가 채워지는 간격
+        private final long intervalNanos;
+        // 연속 허용량만큼 앞당겨 쓸 수 있는 시간
+        private final long burstToleranceNanos;
+
+        private Limit(int permitsPerSecond, int burst) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.burstToleranceNanos = intervalNanos * (burst - 1);
+        }
+    }
+}
@@ -2,19 +2,14 @@ package com.trever.backend.api.favorite.controller;
 
 import com.trever.backend.api.favorite.dto.FavoriteResponseDTO;
 import com.trever.backend.api.favorite.service.FavoriteService;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.vehicle.dto.VehicleListResponse;
-import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ApiResponse;
-import com.trever.backend.common.response.ErrorStatus;
 import com.trever.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -26,19 +21,16 @@ import java.util.List;
 public class FavoriteController {
 
     private final FavoriteService favoriteService;
-    private final UserRepository userRepository;
 
     // 찜 목록 조회
-    @Operation(summary = "찜 목록 조회 API", description = "사용자의 찜 목록을 조회합니다.")
+    @Operation(summary = "찜 목록 조회 API", description = "사용자의 찜 목록을 최근 찜한 순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<VehicleListResponse>> getFavorites(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        VehicleListResponse favorites = favoriteService.getFavorites(user.getId());
+        VehicleListResponse favorites = favoriteService.getFavorites(userId, cursor, size);
 
         return ApiResponse.success(SuccessStatus.GET_FAVORITE_SUCCESS, favorites);
     }
@@ -74,13 +66,9 @@ public class FavoriteController {
     @PostMapping("/{vehicleId}/toggle")
     public ResponseEntity<ApiResponse<Boolean>> toggleFavorite(
             @PathVariable Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId Long userId
     ) {
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        boolean isFavorited = favoriteService.toggleFavorite(user.getId(), vehicleId);
+        boolean isFavorited = favoriteService.toggleFavorite(userId, vehicleId);
 
         // true → 찜 성공, false → 찜 해제
         return ApiResponse.success(SuccessStatus.FAVORITE_TOGGLE_SUCCESS, isFavorited);
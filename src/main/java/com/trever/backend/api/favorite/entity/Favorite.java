@@ -7,8 +7,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "favorites",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"userId", "vehicleId"})})
+@Table(
+        name = "favorites",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_favorites_user_vehicle", columnNames = {"user_id", "vehicle_id"})},
+        indexes = {
+                // 찜 목록 키셋 페이지네이션 (최근 찜한 순)
+                @Index(name = "idx_favorites_user_created", columnList = "user_id, created_at, id"),
+                // 차량별 찜 수 보정 (COUNT(*))
+                @Index(name = "idx_favorites_vehicle", columnList = "vehicle_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,19 @@
+package com.trever.backend.api.favorite.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 찜 등록/해제 이벤트
+ * 커밋 후 사용자별 찜 색인 등에 반영하기 위해 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FavoriteToggledEvent {
+
+    private final Long userId;
+    private final Long vehicleId;
+
+    // true: 찜 등록, false: 찜 해제
+    private final boolean added;
+}
@@ -2,12 +2,25 @@ package com.trever.backend.api.favorite.repository;
 
 import com.trever.backend.api.favorite.entity.Favorite;
 import com.trever.backend.api.user.entity.User;
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
 import com.trever.backend.api.vehicle.entity.Vehicle;
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+
+    String SUMMARY_SELECT = "SELECT new com.trever.backend.api.vehicle.dto.VehicleSummaryRow(f.id, f.createdAt, " +
+            "v.id, v.carNumber, v.carName, v.manufacturer, v.model, v.year_value, v.mileage, " +
+            "v.transmission, v.fuelType, v.price, v.vehicleStatus, v.isAuction, v.auctionId, v.representativePhotoUrl, " +
+            "v.favoriteCount, v.createdAt, v.vehicleType, v.optionMask) " +
+            "FROM Favorite f JOIN f.vehicle v WHERE f.user.id = :userId AND v.vehicleStatus IN :statuses ";
+
     boolean existsByUserAndVehicle(User user, Vehicle vehicle);
 
     void deleteByUserAndVehicle(User user, Vehicle vehicle);
@@ -17,6 +30,10 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // 사용자 ID로 찜 목록 조회
     List<Favorite> findByUserId(Long userId);
 
+    // 사용자가 찜한 차량 ID만 조회 (FavoriteIndex 로드용)
+    @Query("SELECT f.vehicle.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findVehicleIdsByUserId(@Param("userId") Long userId);
+
     // 사용자 ID와 차량 ID로 찜 여부 확인
     boolean existsByUserIdAndVehicleId(Long userId, Long vehicleId);
 
@@ -26,4 +43,22 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
   
     void deleteByUserIdAndVehicleId(Long userId, Long vehicleId);
 
+    // 찜 목록 첫 페이지 (최근 찜한 순)
+    @Query(SUMMARY_SELECT + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<VehicleSummaryRow> findSummaries(@Param("userId") Long userId,
+                                          @Param("statuses") List<VehicleStatus> statuses,
+                                          Pageable pageable);
+
+    // 찜 목록 다음 페이지 (커서 이후)
+    @Query(SUMMARY_SELECT + "AND (f.createdAt < :sortedAt OR (f.createdAt = :sortedAt AND f.id < :rowId)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<VehicleSummaryRow> findSummariesAfter(@Param("userId") Long userId,
+                                               @Param("statuses") List<VehicleStatus> statuses,
+                                               @Param("sortedAt") LocalDateTime sortedAt,
+                                               @Param("rowId") Long rowId,
+                                               Pageable pageable);
+
+    @Query("SELECT COUNT(f) FROM Favorite f JOIN f.vehicle v WHERE f.user.id = :userId AND v.vehicleStatus IN :statuses")
+    long countSummaries(@Param("userId") Long userId, @Param("statuses") List<VehicleStatus> statuses);
+
 }
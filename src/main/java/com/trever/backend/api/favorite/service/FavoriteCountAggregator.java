@@ -0,0 +1,147 @@
+package com.trever.backend.api.favorite.service;
+
+import com.trever.backend.api.favorite.event.FavoriteToggledEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 차량별 찜 수 집계
+ * 찜 등록/해제는 차량별 LongAdder 에 증감만 기록하고(행 잠금 없음, 같은 차량도 경합 없이 누적),
+ * 주기적으로 favorite_count = favorite_count + ? 배치 UPDATE 로 반영한다.
+ * 누산기는 맵에서 제거하지 않고 sumThenReset 으로 비운다 (칸별 getAndSet 이라 동시에 더한 값은 이번 합계나 다음 합계 중 한 곳에 남음).
+ * 누산기 수는 한 번이라도 찜이 바뀐 차량 수만큼이다.
+ * 누락/중복으로 생긴 차이는 favorites COUNT(*) 기준 보정으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteCountAggregator {
+
+    private static final String ADD_SQL =
+            "UPDATE vehicles SET favorite_count = COALESCE(favorite_count, 0) + ? WHERE id = ?";
+    private static final String RECONCILE_VEHICLE_SQL =
+            "UPDATE vehicles SET favorite_count = " +
+            "(SELECT COUNT(*) FROM favorites f WHERE f.vehicle_id = vehicles.id) WHERE id = ?";
+    private static final String RECONCILE_SQL =
+            "UPDATE vehicles SET favorite_count = " +
+            "(SELECT COUNT(*) FROM favorites f WHERE f.vehicle_id = vehicles.id) " +
+            "WHERE COALESCE(favorite_count, -1) <> " +
+            "(SELECT COUNT(*) FROM favorites f WHERE f.vehicle_id = vehicles.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 아직 DB에 반영되지 않은 차량별 증감
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    // 보정 중 증감이 기록된 차량 (보정 중이 아니면 null)
+    private volatile Set<Long> touchedDuringReconcile;
+
+    // 반영/보정 직렬화 (JDBC 호출 동안 잡고 있으므로 모니터 대신 ReentrantLock, 가상 스레드가 캐리어에 고정되지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 찜 등록/해제 커밋 후 증감 기록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteToggled(FavoriteToggledEvent event) {
+        add(event.getVehicleId(), event.isAdded() ? 1 : -1);
+    }
+
+    private void add(Long vehicleId, long delta) {
+        LongAdder adder = deltas.get(vehicleId);
+        if (adder == null) {
+            adder = deltas.computeIfAbsent(vehicleId, id -> new LongAdder());
+        }
+        adder.add(delta);
+
+        Set<Long> touched = touchedDuringReconcile;
+        if (touched != null) {
+            touched.add(vehicleId);
+        }
+    }
+
+    /**
+     * 증감 배치 반영 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    @PreDestroy
+    public void flush() {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            deltas.forEach((vehicleId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    rows.add(new Object[]{delta, vehicleId});
+                }
+            });
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(ADD_SQL, rows);
+            } catch (Exception e) {
+                // 실패한 증감은 다음 주기에 다시 반영
+                for (Object[] row : rows) {
+                    add((Long) row[1], (Long) row[0]);
+                }
+                log.error("찜 수 반영 실패: 차량 {}건", rows.size(), e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * favorites 기준 찜 수 보정 (1시간마다)
+     * 보정 UPDATE 동안 기록된 증감은 이미 COUNT(*) 에 포함됐을 수 있으므로 더하지 않고 버린 뒤,
+     * 해당 차량만 다시 COUNT(*) 로 맞춘다 (이 짧은 재보정 중의 변경만 다음 보정까지 남을 수 있음).
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void reconcile() {
+        lock.lock();
+        try {
+            Set<Long> touched = ConcurrentHashMap.newKeySet();
+            touchedDuringReconcile = touched;
+            int corrected;
+            try {
+                flush();
+                corrected = jdbcTemplate.update(RECONCILE_SQL);
+            } finally {
+                touchedDuringReconcile = null;
+            }
+
+            if (!touched.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>();
+                for (Long vehicleId : touched) {
+                    deltas.get(vehicleId).sumThenReset();
+                    rows.add(new Object[]{vehicleId});
+                }
+                jdbcTemplate.batchUpdate(RECONCILE_VEHICLE_SQL, rows);
+            }
+            if (corrected > 0) {
+                log.info("찜 수 보정: 차량 {}건", corrected);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
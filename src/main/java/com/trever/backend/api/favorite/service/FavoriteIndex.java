@@ -0,0 +1,95 @@
+package com.trever.backend.api.favorite.service;
+
+import com.trever.backend.api.favorite.event.FavoriteToggledEvent;
+import com.trever.backend.api.favorite.repository.FavoriteRepository;
+import com.trever.backend.common.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 찜한 차량 ID 색인
+ * 처음 조회 시 차량 ID만 조회하여 메모리에 보관하고(LRU), 찜 등록/해제 커밋 후 갱신한다.
+ * 목록의 찜 여부 표시는 행마다 상수 시간 조회로 처리된다.
+ * 로드 중 커밋된 찜 변경은 기록해 두었다가 로드 결과에 다시 반영한 뒤 등록한다(등록/해제는 멱등).
+ */
+@Component
+@RequiredArgsConstructor
+public class FavoriteIndex {
+
+    // 메모리에 보관하는 최대 사용자 수 (초과 시 가장 오래 사용하지 않은 사용자부터 제거)
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final FavoriteRepository favoriteRepository;
+
+    private final Map<Long, LongHashSet> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, LongHashSet> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    // 로드 중인 사용자 → 로드 중 들어온 찜 변경 (목록은 같은 키의 compute 안에서만 접근)
+    private final Map<Long, List<FavoriteToggledEvent>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자가 찜한 차량 ID 집합 (비로그인은 빈 집합)
+     */
+    public LongHashSet get(Long userId) {
+        if (userId == null) {
+            return LongHashSet.empty();
+        }
+
+        LongHashSet favorites = cache.get(userId);
+        return favorites != null ? favorites : load(userId);
+    }
+
+    private LongHashSet load(Long userId) {
+        // 조회 전에 먼저 등록해야 조회와 커밋 사이의 변경도 기록된다
+        loading.putIfAbsent(userId, new ArrayList<>());
+        LongHashSet loaded = LongHashSet.of(favoriteRepository.findVehicleIdsByUserId(userId));
+
+        LongHashSet[] result = new LongHashSet[1];
+        loading.compute(userId, (id, toggles) -> {
+            LongHashSet replayed = loaded;
+            if (toggles != null) {
+                for (FavoriteToggledEvent toggle : toggles) {
+                    replayed = apply(replayed, toggle);
+                }
+            }
+            result[0] = cache.merge(userId, replayed, (existing, fresh) -> existing);
+            return null;
+        });
+        return result[0];
+    }
+
+    public boolean contains(Long userId, Long vehicleId) {
+        return vehicleId != null && get(userId).contains(vehicleId);
+    }
+
+    /**
+     * 찜 등록/해제 커밋 후 색인 갱신 (메모리에 있거나 로드 중인 사용자만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteToggled(FavoriteToggledEvent event) {
+        loading.computeIfPresent(event.getUserId(), (id, toggles) -> {
+            toggles.add(event);
+            return toggles;
+        });
+        cache.computeIfPresent(event.getUserId(), (id, favorites) -> apply(favorites, event));
+    }
+
+    private static LongHashSet apply(LongHashSet favorites, FavoriteToggledEvent event) {
+        return event.isAdded()
+                ? favorites.with(event.getVehicleId())
+                : favorites.without(event.getVehicleId());
+    }
+}
@@ -1,10 +1,13 @@
 package com.trever.backend.api.favorite.service;
 
 import com.trever.backend.api.favorite.entity.Favorite;
+import com.trever.backend.api.favorite.event.FavoriteToggledEvent;
 import com.trever.backend.api.favorite.repository.FavoriteRepository;
 import com.trever.backend.api.user.entity.User;
 import com.trever.backend.api.user.repository.UserRepository;
+import com.trever.backend.api.user.service.UserSnapshotCache;
 import com.trever.backend.api.vehicle.dto.VehicleListResponse;
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
 import com.trever.backend.api.vehicle.repository.VehicleRepository;
@@ -13,12 +16,15 @@ import com.trever.backend.api.vehicle.service.VehicleService;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ErrorStatus;
+import com.trever.backend.common.util.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,66 +34,52 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final VehicleOptionService vehicleOptionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 찜 목록에 노출하는 차량 상태
+    private static final List<VehicleStatus> LISTED_STATUSES = List.of(VehicleStatus.ACTIVE, VehicleStatus.AUCTIONS);
+
+    // 한 번에 조회 가능한 최대 개수
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * 찜 목록 조회 (최근 찜한 순, 키셋 페이지네이션)
+     * 차량 컬럼만 프로젝션으로 조회하고 판매중/경매 상태 필터는 SQL에서 처리
+     */
+    public VehicleListResponse getFavorites(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<VehicleSummaryRow> rows = (after == null)
+                ? favoriteRepository.findSummaries(userId, LISTED_STATUSES, limit)
+                : favoriteRepository.findSummariesAfter(userId, LISTED_STATUSES, after.getSortedAt(), after.getId(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        // 찜 목록이므로 항상 찜 상태
+        List<VehicleListResponse.VehicleSummary> summaries = rows.stream()
+                .map(row -> row.toSummary(vehicleOptionService.getOptionNames(row.getOptionMask()), true))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            VehicleSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = new KeysetCursor(last.getSortedAt(), last.getRowId()).encode();
+        }
 
-    // 찜 목록 조회
-    public VehicleListResponse getFavorites(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        // 찜한 차량 목록 조회
-        List<Vehicle> favoriteVehicles = favoriteRepository.findByUserOrderByCreatedAtDesc(user)
-                .stream()
-                .map(Favorite::getVehicle)
-                .filter(vehicle -> vehicle.getVehicleStatus() == VehicleStatus.ACTIVE ||
-                        vehicle.getVehicleStatus() == VehicleStatus.AUCTIONS)
-                .collect(Collectors.toList());
-
-        // VehicleSummary 목록으로 변환
-        List<VehicleListResponse.VehicleSummary> summaries = favoriteVehicles.stream()
-                .map(vehicle -> {
-                    // 차량 옵션 조회
-                    List<String> options = vehicleOptionService.getVehicleOptionNames(vehicle);
-
-                    // 메인 옵션 (최대 3개까지)
-                    List<String> mainOptions = options.size() > 3 ? options.subList(0, 3) : options;
-
-                    // 차량 타입 처리
-                    String vehicleTypeName = (vehicle.getVehicleType() != null)
-                            ? vehicle.getVehicleType().getDisplayName() : "미정";
-
-                    // VehicleSummary 객체 생성
-                    return VehicleListResponse.VehicleSummary.builder()
-                            .id(vehicle.getId())
-                            .vehicleTypeName(vehicleTypeName)
-                            .mainOptions(mainOptions)
-                            .carNumber(vehicle.getCarNumber())
-                            .carName(vehicle.getCarName())
-                            .manufacturer(vehicle.getManufacturer())
-                            .model(vehicle.getModel())
-                            .year_value(vehicle.getYear_value())
-                            .mileage(vehicle.getMileage())
-                            .transmission(vehicle.getTransmission())
-                            .fuelType(vehicle.getFuelType())
-                            .price(vehicle.getPrice())
-                            .vehicleStatus(vehicle.getVehicleStatus().getDisplayName())
-                            .isAuction(vehicle.getIsAuction())
-                            .auctionId(vehicle.getAuctionId())
-                            .representativePhotoUrl(vehicle.getRepresentativePhotoUrl())
-                            .favoriteCount(vehicle.getFavoriteCount())
-                            .createdAt(vehicle.getCreatedAt())
-                            .totalOptionsCount(options.size())
-                            .isFavorite(true) // 찜 목록이므로 항상 true
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 목록 응답 생성
         return VehicleListResponse.builder()
                 .vehicles(summaries)
-                .totalCount(summaries.size())
+                .totalCount(KeysetCursor.totalCount(after, hasNext, rows.size(), () -> favoriteRepository.countSummaries(userId, LISTED_STATUSES)))
                 .pageNumber(0)
-                .pageSize(summaries.size())
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -123,13 +115,13 @@ public class FavoriteService {
 
     @Transactional
     public boolean toggleFavorite(Long userId, Long vehicleId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+        // 사용자 존재 확인은 캐시로 (엔티티는 찜 등록 시 참조로만 사용)
+        userSnapshotCache.getById(userId);
         Vehicle vehicle = vehicleRepository.findById(vehicleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.VEHICLE_NOT_FOUND.getMessage()));
 
         //자신의 차량에 찜 방지
-        if(user.getId().equals(vehicle.getSeller().getId())) {
+        if(userId.equals(vehicle.getSeller().getId())) {
             throw new BadRequestException(ErrorStatus.FAVORITE_FORBIDDEN.getMessage());
         }
 
@@ -138,12 +130,13 @@ public class FavoriteService {
         if (exists) {
             // 이미 찜했으면 삭제
             favoriteRepository.deleteByUserIdAndVehicleId(userId, vehicleId);
-            vehicle.decreaseFavoriteCount();
+            eventPublisher.publishEvent(new FavoriteToggledEvent(userId, vehicleId, false));
             return false; // 찜 해제
         } else {
             // 찜 추가
+            User user = userRepository.getReferenceById(userId);
             favoriteRepository.save(Favorite.builder().user(user).vehicle(vehicle).build());
-            vehicle.increaseFavoriteCount();
+            eventPublisher.publishEvent(new FavoriteToggledEvent(userId, vehicleId, true));
             return true; // 찜 등록
         }
     }
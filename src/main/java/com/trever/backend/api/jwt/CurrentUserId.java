@@ -0,0 +1,17 @@
+package com.trever.backend.api.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인 사용자 id 주입 (Long 파라미터)
+ * required = false 이면 비로그인 요청에 null 을 주입한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+
+    boolean required() default true;
+}
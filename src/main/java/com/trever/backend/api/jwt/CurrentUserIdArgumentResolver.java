@@ -0,0 +1,46 @@
+package com.trever.backend.api.jwt;
+
+import com.trever.backend.common.exception.NotFoundException;
+import com.trever.backend.common.exception.UnauthorizedException;
+import com.trever.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUserId 파라미터에 JWT 의 사용자 id 주입
+ * 사용자 id 조회는 CurrentUserIdLookup 이 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final CurrentUserIdLookup currentUserIdLookup;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = CurrentUserIdLookup.currentAuthentication();
+        if (authentication == null) {
+            CurrentUserId annotation = parameter.getParameterAnnotation(CurrentUserId.class);
+            if (annotation != null && !annotation.required()) {
+                return null;
+            }
+            throw new UnauthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
+        }
+
+        return currentUserIdLookup.userId(authentication)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.trever.backend.api.jwt;
+
+import com.trever.backend.api.user.dto.UserSnapshot;
+import com.trever.backend.api.user.service.UserSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 현재 요청의 로그인 사용자 id 조회 (@CurrentUserId 주입, 응답 캐시 찜 여부 덧씌우기 공용)
+ * JWT 의 uid 클레임을 쓰고, uid 클레임이 없는 기존 토큰만 이메일로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdLookup {
+
+    private final UserSnapshotCache userSnapshotCache;
+
+    /**
+     * 로그인 사용자의 인증 정보 (비로그인이면 null)
+     */
+    public static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication;
+    }
+
+    /**
+     * 인증 정보의 사용자 id (이메일로 찾지 못하면 empty)
+     */
+    public Optional<Long> userId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal && principal.getUserId() != null) {
+            return Optional.of(principal.getUserId());
+        }
+        return userSnapshotCache.findByEmail(authentication.getName())
+                .map(UserSnapshot::getId);
+    }
+
+    /**
+     * 로그인 사용자 id (비로그인이거나 사용자가 없으면 null)
+     */
+    public Long currentUserId() {
+        Authentication authentication = currentAuthentication();
+        return authentication != null ? userId(authentication).orElse(null) : null;
+    }
+}
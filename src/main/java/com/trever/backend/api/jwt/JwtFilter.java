@@ -30,10 +30,9 @@ public class JwtFilter extends OncePerRequestFilter {
         // 요청에서 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 유효성 검증
-        if (token != null && jwtProvider.validateToken(token)) {
-            Authentication authentication = jwtProvider.getAuthentication(token);
-
+        // 토큰 검증 + 인증 객체 생성 (서명 검증/파싱은 한 번만)
+        Authentication authentication = jwtProvider.authenticate(token);
+        if (authentication != null) {
             // SecurityContext에 인증 객체 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
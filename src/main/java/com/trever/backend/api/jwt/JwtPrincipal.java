@@ -0,0 +1,23 @@
+package com.trever.backend.api.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 액세스 토큰 클레임만으로 만든 인증 주체 (DB 조회 없음)
+ * 기존 @AuthenticationPrincipal UserDetails 사용처와 호환되도록 Spring Security User 를 확장한다.
+ */
+@Getter
+public class JwtPrincipal extends User {
+
+    // 토큰의 uid 클레임 (클레임 도입 전에 발급된 토큰이면 null)
+    private final Long userId;
+
+    public JwtPrincipal(Long userId, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.userId = userId;
+    }
+}
@@ -2,20 +2,22 @@ package com.trever.backend.api.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,16 +25,24 @@ import java.util.stream.Collectors;
 public class JwtProvider {
 
     private static final String AUTHORITIES_KEY = "auth"; // 권한 정보를 저장하는 키
+    private static final String USER_ID_KEY = "uid"; // 사용자 id 를 저장하는 키
+    private static final int MAX_VERIFIED_TOKENS = 10_000; // 검증 결과를 보관할 최대 토큰 수
     private final Key key; // JWT 서명에 사용할 비밀키
+    private final JwtParser jwtParser; // 스레드 안전하므로 하나를 재사용
+
+    // 최근 검증한 액세스 토큰 → 인증 주체 + 만료 시각 (같은 토큰은 서명 검증/파싱을 다시 하지 않음)
+    // 모든 요청이 거치므로 전역 락 없이 조회하고, 만료 항목 정리와 크기 제한은 주기 작업에서 한다
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>(256);
 
     // 비밀키를 기반으로 키 객체 초기화
     public JwtProvider(@Value("${jwt.secret}") String secretKey) {
         // 암호화
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 액세스 토큰 생성 메서드
-    public String generateAccessToken(Authentication authentication) {
+    public String generateAccessToken(Long userId, Authentication authentication) {
         // 인증 객체에서 권한 정보 추출
         List<String> roles = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -45,6 +55,7 @@ public class JwtProvider {
         return Jwts.builder()
                         .setSubject(authentication.getName()) // 사용자명 설정, 이메일이 들어 있음
                         .claim(AUTHORITIES_KEY, roles)
+                        .claim(USER_ID_KEY, userId) // 요청마다 이메일로 사용자를 조회하지 않도록 id 포함
                         .setExpiration(accessTokenExpiresIn)  // 만료 시간 설정
                         .signWith(key, SignatureAlgorithm.HS512) // 서명 방식 설정
                         .compact();
@@ -56,15 +67,47 @@ public class JwtProvider {
 
         return Jwts.builder()
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 여러 기기에서 발급해도 토큰이 겹치지 않도록
                 .setExpiration(refreshTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 토큰에서 Authentication 추출
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+    /**
+     * 요청의 액세스 토큰 인증 (유효하지 않거나 만료되었으면 null)
+     * 서명 검증과 클레임 파싱을 한 번에 하고, 검증된 토큰은 만료 전까지 캐시에서 꺼내 쓴다.
+     */
+    public Authentication authenticate(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        VerifiedToken verified = verifiedTokens.get(token);
+        if (verified == null) {
+            Claims claims;
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (ExpiredJwtException e) {
+                log.debug("JWT expired: {}", e.getMessage());
+                return null;
+            } catch (Exception e) {
+                log.debug("JWT invalid: {}", e.getMessage());
+                return null;
+            }
+
+            long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+            verified = new VerifiedToken(toPrincipal(claims), expiresAt);
+            verifiedTokens.put(token, verified);
+        } else if (verified.expiresAt <= System.currentTimeMillis()) {
+            verifiedTokens.remove(token, verified);
+            return null;
+        }
+
+        // Authentication 은 변경 가능한 객체이므로 요청마다 새로 만든다
+        return new UsernamePasswordAuthenticationToken(verified.principal, token, verified.principal.getAuthorities());
+    }
 
+    private JwtPrincipal toPrincipal(Claims claims) {
         // 권한 정보 추출 (auth claim 없으면 ROLE_USER 기본 부여)
         List<String> roles = claims.get(AUTHORITIES_KEY, List.class);
         if (roles == null || roles.isEmpty()) {
@@ -75,9 +118,8 @@ public class JwtProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        // 인증 객체 생성 후 반환
-        User principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        // 인증 주체 생성 (uid 클레임이 없는 기존 토큰이면 userId 는 null)
+        return new JwtPrincipal(claims.get(USER_ID_KEY, Long.class), claims.getSubject(), authorities);
     }
 
     // 토큰 유효성 검증
@@ -86,7 +128,7 @@ public class JwtProvider {
             return false;
         }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.debug("JWT expired: {}", e.getMessage());
@@ -103,9 +145,40 @@ public class JwtProvider {
     // 토큰의 Claims 추출
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    /**
+     * 만료된 검증 캐시 항목 정리 (1분마다)
+     * 정리 후에도 최대 개수를 넘으면 만료가 가까운 토큰부터 제거한다 (제거된 토큰은 다음 요청에서 다시 검증).
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void evictExpiredTokens() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(verified -> verified.expiresAt <= now);
+
+        int excess = verifiedTokens.size() - MAX_VERIFIED_TOKENS;
+        if (excess > 0) {
+            verifiedTokens.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(verifiedTokens::remove);
+            log.debug("JWT verification cache trimmed: {} tokens", excess);
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final JwtPrincipal principal;
+        private final long expiresAt;
+
+        private VerifiedToken(JwtPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
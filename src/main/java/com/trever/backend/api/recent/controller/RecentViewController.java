@@ -1,19 +1,14 @@
 package com.trever.backend.api.recent.controller;
 
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.recent.service.RecentViewService;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
 import com.trever.backend.api.vehicle.dto.VehicleListResponse;
-import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ApiResponse;
-import com.trever.backend.common.response.ErrorStatus;
 import com.trever.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,18 +20,15 @@ import java.util.List;
 public class RecentViewController {
 
     private final RecentViewService recentViewService;
-    private final UserRepository userRepository;
 
-    @Operation(summary = "최근 본 차량 조회", description = "사용자의 최근 본 차량 목록을 조회합니다.")
+    @Operation(summary = "최근 본 차량 조회", description = "사용자의 최근 본 차량 목록을 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<VehicleListResponse>> getRecentViews(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        VehicleListResponse recentViews = recentViewService.getRecentViews(user.getId());
+        VehicleListResponse recentViews = recentViewService.getRecentViews(userId, cursor, size);
 
         return ApiResponse.success(SuccessStatus.RECENT_VIEW_LIST_SUCCESS, recentViews);
     }
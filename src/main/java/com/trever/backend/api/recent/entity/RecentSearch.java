@@ -8,7 +8,11 @@ import lombok.*;
 @Entity
 @Table(
         name = "recent_searches",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "keyword"})}
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "keyword"})},
+        indexes = {
+                // 최근 검색어 조회 및 5개 초과분 정리 (최근 검색 순)
+                @Index(name = "idx_recent_searches_user_updated", columnList = "user_id, updated_at, id")
+        }
 )
 @Getter
 @Setter
@@ -9,7 +9,11 @@ import lombok.*;
 @Entity
 @Table(
         name = "recent_views",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "vehicle_id"})}
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "vehicle_id"})},
+        indexes = {
+                // 최근 본 차량 키셋 페이지네이션 및 20개 초과분 정리 (최근 본 순)
+                @Index(name = "idx_recent_views_user_updated", columnList = "user_id, updated_at, id")
+        }
 )
 @Getter
 @Setter
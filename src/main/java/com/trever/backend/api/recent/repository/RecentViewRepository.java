@@ -1,15 +1,56 @@
 package com.trever.backend.api.recent.repository;
 
 import com.trever.backend.api.recent.entity.RecentView;
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RecentViewRepository extends JpaRepository<RecentView, Long> {
+
+    String SUMMARY_SELECT = "SELECT new com.trever.backend.api.vehicle.dto.VehicleSummaryRow(rv.id, rv.updatedAt, " +
+            "v.id, v.carNumber, v.carName, v.manufacturer, v.model, v.year_value, v.mileage, " +
+            "v.transmission, v.fuelType, v.price, v.vehicleStatus, v.isAuction, v.auctionId, v.representativePhotoUrl, " +
+            "v.favoriteCount, v.createdAt, v.vehicleType, v.optionMask) " +
+            "FROM RecentView rv JOIN rv.vehicle v WHERE rv.user.id = :userId AND v.vehicleStatus IN :statuses ";
+
     List<RecentView> findByUserIdOrderByUpdatedAtDesc(Long userId);
 
     void deleteByUserIdAndVehicleId(Long userId, Long vehicleId);
 
     Optional<RecentView> findByUserIdAndVehicleId(Long userId, Long vehicleId);
+
+    // 최근 본 차량 첫 페이지 (최근 본 순)
+    @Query(SUMMARY_SELECT + "ORDER BY rv.updatedAt DESC, rv.id DESC")
+    List<VehicleSummaryRow> findSummaries(@Param("userId") Long userId,
+                                          @Param("statuses") List<VehicleStatus> statuses,
+                                          Pageable pageable);
+
+    // 최근 본 차량 다음 페이지 (커서 이후)
+    @Query(SUMMARY_SELECT + "AND (rv.updatedAt < :sortedAt OR (rv.updatedAt = :sortedAt AND rv.id < :rowId)) " +
+            "ORDER BY rv.updatedAt DESC, rv.id DESC")
+    List<VehicleSummaryRow> findSummariesAfter(@Param("userId") Long userId,
+                                               @Param("statuses") List<VehicleStatus> statuses,
+                                               @Param("sortedAt") LocalDateTime sortedAt,
+                                               @Param("rowId") Long rowId,
+                                               Pageable pageable);
+
+    // 아직 반영되지 않은 최근 본 차량 (키셋 기준은 호출 측에서 조회 시각으로 교체)
+    @Query("SELECT new com.trever.backend.api.vehicle.dto.VehicleSummaryRow(v.id, v.createdAt, " +
+            "v.id, v.carNumber, v.carName, v.manufacturer, v.model, v.year_value, v.mileage, " +
+            "v.transmission, v.fuelType, v.price, v.vehicleStatus, v.isAuction, v.auctionId, v.representativePhotoUrl, " +
+            "v.favoriteCount, v.createdAt, v.vehicleType, v.optionMask) " +
+            "FROM Vehicle v WHERE v.id IN :vehicleIds AND v.vehicleStatus IN :statuses")
+    List<VehicleSummaryRow> findVehicleSummaries(@Param("vehicleIds") Collection<Long> vehicleIds,
+                                                 @Param("statuses") List<VehicleStatus> statuses);
+
+    @Query("SELECT COUNT(rv) FROM RecentView rv JOIN rv.vehicle v WHERE rv.user.id = :userId AND v.vehicleStatus IN :statuses")
+    long countSummaries(@Param("userId") Long userId, @Param("statuses") List<VehicleStatus> statuses);
 }
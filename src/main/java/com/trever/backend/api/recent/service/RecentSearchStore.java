@@ -0,0 +1,130 @@
+package com.trever.backend.api.recent.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 최근 검색어 저장소
+ * 최근 검색어(최대 5개, 최신순)를 메모리에 보관해 조회 시 DB를 거치지 않고,
+ * 추가된 검색어는 주기적으로 JDBC 배치로 recent_searches 에 반영(갱신/추가 후 5개 초과분 삭제)한다.
+ */
+@Component
+public class RecentSearchStore {
+
+    // 사용자별 최근 검색어 보관 개수
+    static final int MAX_RECENT_SEARCHES = 5;
+
+    // 메모리에 보관하는 최대 사용자 수 (초과 시 가장 오래 사용하지 않은 사용자부터 제거)
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private static final String SELECT_SQL =
+            "SELECT keyword FROM recent_searches WHERE user_id = ? ORDER BY updated_at DESC LIMIT " + MAX_RECENT_SEARCHES;
+    private static final String UPDATE_SQL =
+            "UPDATE recent_searches SET updated_at = ? WHERE user_id = ? AND keyword = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO recent_searches (user_id, keyword, created_at, updated_at) " +
+            "SELECT u.id, ?, ?, ? FROM users u WHERE u.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM recent_searches r WHERE r.user_id = u.id AND r.keyword = ?)";
+    private static final String TRIM_SQL =
+            "DELETE FROM recent_searches WHERE user_id = ? AND id NOT IN (" +
+            "SELECT id FROM (SELECT id FROM recent_searches WHERE user_id = ? " +
+            "ORDER BY updated_at DESC LIMIT " + MAX_RECENT_SEARCHES + ") latest)";
+    private static final String DELETE_SQL =
+            "DELETE FROM recent_searches WHERE user_id = ? AND keyword = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 아직 DB에 반영되지 않은 검색 기록
+    private final RecentWriteBehindBuffer<String> buffer;
+
+    // 사용자별 최근 검색어 (최신순 불변 리스트, LRU)
+    private final Map<Long, List<String>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, List<String>> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    public RecentSearchStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new RecentWriteBehindBuffer<>("최근 검색어", MAX_RECENT_SEARCHES,
+                jdbcTemplate, transactionTemplate,
+                UPDATE_SQL, INSERT_SQL,
+                (userId, keyword, searchedAt) -> new Object[]{keyword, searchedAt, searchedAt, userId, keyword},
+                TRIM_SQL, DELETE_SQL);
+    }
+
+    /**
+     * 검색어 기록 (DB 접근 없음)
+     */
+    public void add(Long userId, String keyword) {
+        buffer.record(userId, keyword);
+
+        // 메모리에 있는 사용자만 갱신 (없으면 다음 조회 시 로드)
+        cache.computeIfPresent(userId, (id, keywords) -> prepend(keywords, keyword));
+    }
+
+    /**
+     * 최근 검색어 조회 (메모리에 없을 때만 DB 조회)
+     */
+    public List<String> get(Long userId) {
+        List<String> keywords = cache.get(userId);
+        if (keywords != null) {
+            return keywords;
+        }
+
+        // DB 조회 전에 미반영 검색어를 읽어 두어야 조회 중 반영된 검색어도 빠지지 않는다
+        List<String> unflushed = buffer.pendingKeys(userId);
+        List<String> loaded = List.copyOf(jdbcTemplate.queryForList(SELECT_SQL, String.class, userId));
+
+        // 먼저 등록한 뒤 미반영 검색어와 조회 중 추가된 검색어를 오래된 순으로 다시 반영
+        List<String> current = cache.merge(userId, loaded, (existing, fresh) -> existing);
+        List<String> replay = new ArrayList<>(unflushed);
+        replay.addAll(buffer.pendingKeys(userId));
+        for (String keyword : replay) {
+            List<String> updated = cache.computeIfPresent(userId, (id, list) -> prepend(list, keyword));
+            if (updated != null) {
+                current = updated;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 검색어 삭제 (DB에 즉시 반영, 진행 중인 반영이 끝난 뒤 실행되어 삭제한 검색어가 다시 저장되지 않음)
+     */
+    public void remove(Long userId, String keyword) {
+        cache.computeIfPresent(userId, (id, keywords) ->
+                keywords.stream().filter(k -> !k.equals(keyword)).toList());
+        buffer.remove(userId, keyword);
+    }
+
+    /**
+     * 변경된 사용자 전체 반영 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    @PreDestroy
+    public void flushAll() {
+        buffer.flushAll();
+    }
+
+    private static List<String> prepend(List<String> keywords, String keyword) {
+        List<String> updated = new ArrayList<>(MAX_RECENT_SEARCHES + 1);
+        updated.add(keyword);
+        for (String k : keywords) {
+            if (updated.size() >= MAX_RECENT_SEARCHES) break;
+            if (!k.equals(keyword)) updated.add(k);
+        }
+        return List.copyOf(updated);
+    }
+}
@@ -1,122 +1,138 @@
 package com.trever.backend.api.recent.service;
 
-import com.trever.backend.api.favorite.repository.FavoriteRepository;
-import com.trever.backend.api.recent.entity.RecentView;
+import com.trever.backend.api.favorite.service.FavoriteIndex;
 import com.trever.backend.api.recent.repository.RecentViewRepository;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
 import com.trever.backend.api.vehicle.dto.VehicleListResponse;
-import com.trever.backend.api.vehicle.entity.Vehicle;
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
-import com.trever.backend.api.vehicle.repository.VehicleRepository;
 import com.trever.backend.api.vehicle.service.VehicleOptionService;
-import com.trever.backend.common.exception.NotFoundException;
-import com.trever.backend.common.response.ErrorStatus;
-import jakarta.transaction.Transactional;
+import com.trever.backend.common.util.KeysetCursor;
+import com.trever.backend.common.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
 public class RecentViewService {
+
+    // 최근 본 차량 목록에 노출하는 차량 상태
+    private static final List<VehicleStatus> LISTED_STATUSES = List.of(VehicleStatus.ACTIVE, VehicleStatus.AUCTIONS);
+
+    // 아직 DB 행이 없는 기록의 키셋 id (같은 시각의 DB 행보다 뒤에 정렬, 반영 후 다음 페이지에 다시 나오지 않음)
+    private static final long PENDING_ROW_ID = 0L;
+
+    // 최근 본 순 (시각, 행 id 내림차순)
+    private static final Comparator<VehicleSummaryRow> RECENT_FIRST = Comparator
+            .comparing(VehicleSummaryRow::getSortedAt)
+            .thenComparing(VehicleSummaryRow::getRowId)
+            .reversed();
+
     private final RecentViewRepository recentViewRepository;
-    private final UserRepository userRepository;
-    private final VehicleRepository vehicleRepository;
     private final VehicleOptionService vehicleOptionService;
-    private final FavoriteRepository favoriteRepository;
+    private final FavoriteIndex favoriteIndex;
+    private final RecentViewWriteBuffer recentViewWriteBuffer;
 
 
-    @Transactional
+    /**
+     * 최근 본 차량 저장 (메모리 버퍼에 기록, DB 반영은 RecentViewWriteBuffer 가 주기적으로 배치 처리)
+     */
     public void addRecentView(Long userId, Long vehicleId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VEHICLE.getMessage()));
-
-        // 같은 차량 있으면 삭제
-        recentViewRepository.deleteByUserIdAndVehicleId(userId, vehicleId);
-        recentViewRepository.flush();
-
-        // 새로 저장
-        recentViewRepository.save(
-                RecentView.builder()
-                        .user(user)
-                        .vehicle(vehicle)
-                        .build()
-        );
+        recentViewWriteBuffer.record(userId, vehicleId);
     }
 
     /**
-     * 사용자의 최근 본 차량 목록 조회
-     * VehicleService의 buildVehicleSummary 로직을 활용하여 일관된 결과 반환
+     * 사용자의 최근 본 차량 목록 조회 (최근 본 순, 키셋 페이지네이션)
+     * 차량 컬럼만 프로젝션으로 조회하고 판매중/경매 상태 필터는 SQL에서 처리
+     * 아직 반영되지 않은 조회 기록이 있으면 (사용자당 최대 20건이므로) 전체를 메모리에서 합쳐 페이지를 자른다.
      */
-    public VehicleListResponse getRecentViews(Long userId) {
-        // 최근 본 차량 목록 조회 (최대 20개까지)
-        List<Vehicle> recentVehicles = recentViewRepository.findByUserIdOrderByUpdatedAtDesc(userId)
-                .stream()
-                .map(RecentView::getVehicle)
-                .filter(vehicle -> vehicle.getVehicleStatus() == VehicleStatus.ACTIVE ||
-                        vehicle.getVehicleStatus() == VehicleStatus.AUCTIONS)
-                .limit(20)
-                .collect(Collectors.toList());
-
-        // 찜한 차량 ID 목록 조회
-        Set<Long> favoriteVehicleIds = favoriteRepository.findByUserId(userId).stream()
-                .map(favorite -> favorite.getVehicle().getId())
-                .collect(Collectors.toSet());
-
-        // 차량 정보를 VehicleSummary로 변환
-        List<VehicleListResponse.VehicleSummary> summaries = recentVehicles.stream()
-                .map(vehicle -> {
-                    // 차량 옵션 조회
-                    List<String> options = vehicleOptionService.getVehicleOptionNames(vehicle);
-
-                    // 메인 옵션 (최대 3개까지)
-                    List<String> mainOptions = options.size() > 3 ? options.subList(0, 3) : options;
-
-                    // 차량 타입 처리
-                    String vehicleTypeName = (vehicle.getVehicleType() != null)
-                            ? vehicle.getVehicleType().getDisplayName() : "미정";
-
-                    // VehicleSummary 객체 생성
-                    VehicleListResponse.VehicleSummary summary = VehicleListResponse.VehicleSummary.builder()
-                            .id(vehicle.getId())
-                            .vehicleTypeName(vehicleTypeName)
-                            .mainOptions(mainOptions)
-                            .carNumber(vehicle.getCarNumber())
-                            .carName(vehicle.getCarName())
-                            .manufacturer(vehicle.getManufacturer())
-                            .model(vehicle.getModel())
-                            .year_value(vehicle.getYear_value())
-                            .mileage(vehicle.getMileage())
-                            .transmission(vehicle.getTransmission())
-                            .fuelType(vehicle.getFuelType())
-                            .price(vehicle.getPrice())
-                            .vehicleStatus(vehicle.getVehicleStatus().getDisplayName())
-                            .isAuction(vehicle.getIsAuction())
-                            .auctionId(vehicle.getAuctionId())
-                            .representativePhotoUrl(vehicle.getRepresentativePhotoUrl())
-                            .favoriteCount(vehicle.getFavoriteCount())
-                            .createdAt(vehicle.getCreatedAt())
-                            .totalOptionsCount(options.size())
-                            .isFavorite(favoriteVehicleIds.contains(vehicle.getId()))
-                            .build();
-
-                    return summary;
-                })
-                .collect(Collectors.toList());
-
-        // VehicleListResponse 형식으로 결과 반환
+    public VehicleListResponse getRecentViews(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), RecentViewWriteBuffer.MAX_RECENT_VIEWS);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 아직 반영되지 않은 조회 기록 (DB 조회보다 먼저 읽어야 그 사이 반영된 기록이 빠지지 않는다)
+        Map<Long, LocalDateTime> pending = recentViewWriteBuffer.pendingViews(userId);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<VehicleSummaryRow> rows;
+        LongSupplier counter;
+        if (pending.isEmpty()) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            rows = (after == null)
+                    ? recentViewRepository.findSummaries(userId, LISTED_STATUSES, limit)
+                    : recentViewRepository.findSummariesAfter(userId, LISTED_STATUSES, after.getSortedAt(), after.getId(), limit);
+            counter = () -> recentViewRepository.countSummaries(userId, LISTED_STATUSES);
+        } else {
+            List<VehicleSummaryRow> all = mergePending(userId, pending);
+            rows = all.stream()
+                    .filter(row -> after == null || isAfter(row, after))
+                    .limit(pageSize + 1)
+                    .toList();
+            counter = all::size;
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        // 찜한 차량 ID 색인
+        LongHashSet favoriteVehicleIds = favoriteIndex.get(userId);
+
+        List<VehicleListResponse.VehicleSummary> summaries = rows.stream()
+                .map(row -> row.toSummary(
+                        vehicleOptionService.getOptionNames(row.getOptionMask()),
+                        favoriteVehicleIds.contains(row.getId())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            VehicleSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = new KeysetCursor(last.getSortedAt(), last.getRowId()).encode();
+        }
+
         return VehicleListResponse.builder()
                 .vehicles(summaries)
-                .totalCount(summaries.size())
+                .totalCount(KeysetCursor.totalCount(after, hasNext, rows.size(), counter))
                 .pageNumber(0)
-                .pageSize(summaries.size())
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    /**
+     * DB 의 최근 본 차량과 미반영 기록을 합친 전체 목록 (최근 본 순, 최대 20건)
+     * 같은 차량은 미반영 기록의 조회 시각이 더 최근이다.
+     */
+    private List<VehicleSummaryRow> mergePending(Long userId, Map<Long, LocalDateTime> pending) {
+        List<VehicleSummaryRow> merged = new ArrayList<>();
+        Pageable all = PageRequest.of(0, RecentViewWriteBuffer.MAX_RECENT_VIEWS * 2);
+        for (VehicleSummaryRow row : recentViewRepository.findSummaries(userId, LISTED_STATUSES, all)) {
+            if (!pending.containsKey(row.getId())) {
+                merged.add(row);
+            }
+        }
+        for (VehicleSummaryRow row : recentViewRepository.findVehicleSummaries(pending.keySet(), LISTED_STATUSES)) {
+            merged.add(row.withSortKey(PENDING_ROW_ID, pending.get(row.getId())));
+        }
+
+        merged.sort(RECENT_FIRST);
+        return merged.size() > RecentViewWriteBuffer.MAX_RECENT_VIEWS
+                ? merged.subList(0, RecentViewWriteBuffer.MAX_RECENT_VIEWS)
+                : merged;
+    }
+
+    // 커서(시각, 행 id) 이후 항목인지
+    private static boolean isAfter(VehicleSummaryRow row, KeysetCursor after) {
+        int compared = row.getSortedAt().compareTo(after.getSortedAt());
+        return compared < 0 || (compared == 0 && row.getRowId() < after.getId());
+    }
 }
@@ -0,0 +1,68 @@
+package com.trever.backend.api.recent.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 최근 본 차량 쓰기 버퍼
+ * 조회 요청은 사용자별 메모리 버퍼(최근 20개, 차량 중복 제거)에만 기록하고,
+ * 주기적으로 변경된 사용자만 JDBC 배치로 recent_views 에 반영(갱신/추가 후 20개 초과분 삭제)한다.
+ */
+@Component
+public class RecentViewWriteBuffer {
+
+    // 사용자별 최근 본 차량 보관 개수
+    static final int MAX_RECENT_VIEWS = 20;
+
+    private static final String UPDATE_SQL =
+            "UPDATE recent_views SET updated_at = ? WHERE user_id = ? AND vehicle_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO recent_views (user_id, vehicle_id, created_at, updated_at) " +
+            "SELECT ?, v.id, ?, ? FROM vehicles v WHERE v.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM recent_views r WHERE r.user_id = ? AND r.vehicle_id = v.id)";
+    private static final String TRIM_SQL =
+            "DELETE FROM recent_views WHERE user_id = ? AND id NOT IN (" +
+            "SELECT id FROM (SELECT id FROM recent_views WHERE user_id = ? " +
+            "ORDER BY updated_at DESC LIMIT " + MAX_RECENT_VIEWS + ") latest)";
+
+    private final RecentWriteBehindBuffer<Long> buffer;
+
+    public RecentViewWriteBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        // 그 사이 삭제된 차량은 INSERT 에서 건너뜀
+        this.buffer = new RecentWriteBehindBuffer<>("최근 본 차량", MAX_RECENT_VIEWS,
+                jdbcTemplate, transactionTemplate,
+                UPDATE_SQL, INSERT_SQL,
+                (userId, vehicleId, viewedAt) -> new Object[]{userId, viewedAt, viewedAt, vehicleId, userId},
+                TRIM_SQL, null);
+    }
+
+    /**
+     * 조회 기록 (DB 접근 없음)
+     */
+    public void record(Long userId, Long vehicleId) {
+        buffer.record(userId, vehicleId);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회 기록 (차량 id → 조회 시각, 오래된 순)
+     * 목록 조회 시 DB 조회보다 먼저 읽어 결과에 합친다 (요청 스레드에서 반영을 기다리지 않음).
+     */
+    public Map<Long, LocalDateTime> pendingViews(Long userId) {
+        return buffer.pendingEntries(userId);
+    }
+
+    /**
+     * 변경된 사용자 전체 반영 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    @PreDestroy
+    public void flushAll() {
+        buffer.flushAll();
+    }
+}
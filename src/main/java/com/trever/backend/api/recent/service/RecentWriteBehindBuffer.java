@@ -0,0 +1,237 @@
+package com.trever.backend.api.recent.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 "최근 N개" 기록 쓰기 버퍼 (최근 본 차량 / 최근 검색어 공용)
+ * 기록은 사용자별 메모리 버퍼(항목 중복 제거, 최근 N개)에만 쌓고, 반영 시 JDBC 배치로
+ * 기존 행 갱신 → 없는 행 추가 → 사용자별 N개 초과분 삭제를 한 트랜잭션으로 처리한다.
+ * 버퍼 비우기/반영/삭제는 하나의 잠금으로 직렬화해 반영 중인 항목을 삭제가 앞지르지 않게 한다.
+ * 조회는 반영을 기다리지 않고 미반영/반영 중 기록(pendingEntries)을 DB 결과에 합친다.
+ *
+ * SQL 파라미터
+ * - updateSql: (시각, 사용자 id, 항목)
+ * - insertSql: insertArgs 가 만든 값 (이미 있는 행은 NOT EXISTS 등으로 걸러야 함)
+ * - trimSql:   (사용자 id, 사용자 id)
+ * - deleteSql: (사용자 id, 항목), 삭제를 쓰지 않으면 null
+ */
+@Slf4j
+final class RecentWriteBehindBuffer<K> {
+
+    /**
+     * INSERT 파라미터 생성
+     */
+    @FunctionalInterface
+    interface InsertArgs<K> {
+        Object[] of(Long userId, K key, Timestamp at);
+    }
+
+    private final String name;
+    private final int maxPerUser;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String updateSql;
+    private final String insertSql;
+    private final InsertArgs<K> insertArgs;
+    private final String trimSql;
+    private final String deleteSql;
+
+    // 아직 DB에 반영되지 않은 사용자별 기록 (항목 → 기록 시각, 오래된 순)
+    private final Map<Long, LinkedHashMap<K, LocalDateTime>> pending = new ConcurrentHashMap<>();
+
+    // 버퍼에서 꺼내 반영 중인 기록 (커밋 또는 재등록 후 제거, 조회가 이 사이의 기록을 놓치지 않도록)
+    private final Map<Long, LinkedHashMap<K, LocalDateTime>> inFlight = new ConcurrentHashMap<>();
+
+    // 반영/삭제 직렬화 (JDBC 호출 동안 잡고 있으므로 모니터 대신 ReentrantLock, 가상 스레드가 캐리어에 고정되지 않음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    RecentWriteBehindBuffer(String name, int maxPerUser,
+                            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            String updateSql, String insertSql, InsertArgs<K> insertArgs,
+                            String trimSql, String deleteSql) {
+        this.name = name;
+        this.maxPerUser = maxPerUser;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.updateSql = updateSql;
+        this.insertSql = insertSql;
+        this.insertArgs = insertArgs;
+        this.trimSql = trimSql;
+        this.deleteSql = deleteSql;
+    }
+
+    /**
+     * 기록 (DB 접근 없음)
+     */
+    void record(Long userId, K key) {
+        pending.compute(userId, (id, entries) -> {
+            if (entries == null) {
+                entries = new LinkedHashMap<>();
+            }
+            // 같은 항목은 제거 후 다시 넣어 가장 최근으로 이동
+            entries.remove(key);
+            entries.put(key, LocalDateTime.now());
+            trim(entries);
+            return entries;
+        });
+    }
+
+    /**
+     * 아직 커밋되지 않은 기록 (항목 → 기록 시각, 오래된 순)
+     * DB 조회 전에 읽으면 이 결과와 DB 조회 결과를 합친 것이 빠짐없는 최신 상태다.
+     */
+    LinkedHashMap<K, LocalDateTime> pendingEntries(Long userId) {
+        LinkedHashMap<K, LocalDateTime> buffered = new LinkedHashMap<>();
+        pending.computeIfPresent(userId, (id, entries) -> {
+            buffered.putAll(entries);
+            return entries;
+        });
+
+        // 버퍼에서 꺼낸 뒤 반영 중인 기록 (버퍼의 기록이 더 최근)
+        LinkedHashMap<K, LocalDateTime> merged = new LinkedHashMap<>();
+        LinkedHashMap<K, LocalDateTime> writing = inFlight.get(userId);
+        if (writing != null) {
+            merged.putAll(writing);
+        }
+        buffered.forEach((key, at) -> {
+            merged.remove(key);
+            merged.put(key, at);
+        });
+        return merged;
+    }
+
+    /**
+     * 아직 커밋되지 않은 항목 (오래된 순)
+     */
+    List<K> pendingKeys(Long userId) {
+        return new ArrayList<>(pendingEntries(userId).keySet());
+    }
+
+    /**
+     * 항목 삭제 (미반영 기록 제거 후 DB 에서 즉시 삭제)
+     */
+    void remove(Long userId, K key) {
+        writeLock.lock();
+        try {
+            pending.computeIfPresent(userId, (id, entries) -> {
+                entries.remove(key);
+                return entries.isEmpty() ? null : entries;
+            });
+            jdbcTemplate.update(deleteSql, userId, key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 사용자 전체 반영
+     */
+    void flushAll() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Map<Long, LinkedHashMap<K, LocalDateTime>> drained = new LinkedHashMap<>();
+            for (Long userId : new ArrayList<>(pending.keySet())) {
+                // 버퍼에서 빼기 전에 반영 중으로 등록 (조회는 버퍼 → 반영 중 순으로 읽음)
+                pending.computeIfPresent(userId, (id, entries) -> {
+                    inFlight.put(id, entries);
+                    drained.put(id, entries);
+                    return null;
+                });
+            }
+            try {
+                write(drained);
+            } finally {
+                drained.keySet().forEach(inFlight::remove);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(Map<Long, LinkedHashMap<K, LocalDateTime>> drained) {
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Long> rowUsers = new ArrayList<>();
+        List<K> rowKeys = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        drained.forEach((userId, entries) -> entries.forEach((key, at) -> {
+            rowUsers.add(userId);
+            rowKeys.add(key);
+            rows.add(new Object[]{Timestamp.valueOf(at), userId, key});
+        }));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 1. 기존 행 갱신
+                int[] updated = jdbcTemplate.batchUpdate(updateSql, rows);
+
+                // 2. 갱신되지 않은 행만 추가
+                List<Object[]> inserts = new ArrayList<>();
+                for (int i = 0; i < updated.length; i++) {
+                    if (!isUpdated(updated[i])) {
+                        inserts.add(insertArgs.of(rowUsers.get(i), rowKeys.get(i), (Timestamp) rows.get(i)[0]));
+                    }
+                }
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(insertSql, inserts);
+                }
+
+                // 3. 사용자별 초과분 삭제
+                List<Object[]> trims = new ArrayList<>();
+                drained.keySet().forEach(userId -> trims.add(new Object[]{userId, userId}));
+                jdbcTemplate.batchUpdate(trimSql, trims);
+            });
+        } catch (Exception e) {
+            // 실패한 기록은 다음 주기에 다시 반영 (그 사이 들어온 기록이 더 최근)
+            drained.forEach(this::requeue);
+            log.error("{} 반영 실패: 사용자 {}명, {}건", name, drained.size(), rows.size(), e);
+        }
+    }
+
+    private void requeue(Long userId, LinkedHashMap<K, LocalDateTime> failed) {
+        pending.compute(userId, (id, entries) -> {
+            LinkedHashMap<K, LocalDateTime> merged = new LinkedHashMap<>(failed);
+            if (entries != null) {
+                entries.forEach((key, at) -> {
+                    merged.remove(key);
+                    merged.put(key, at);
+                });
+            }
+            trim(merged);
+            return merged;
+        });
+    }
+
+    private void trim(LinkedHashMap<K, LocalDateTime> entries) {
+        while (entries.size() > maxPerUser) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * 배치 UPDATE 결과로 기존 행 갱신 여부 판단
+     * 드라이버가 건별 수를 주지 않으면(SUCCESS_NO_INFO) 갱신 여부를 알 수 없으므로 추가 대상으로 두고,
+     * 이미 있는 행은 INSERT 의 NOT EXISTS 조건으로 걸러진다.
+     */
+    private static boolean isUpdated(int count) {
+        // SUCCESS_NO_INFO(-2), EXECUTE_FAILED(-3) 는 갱신되지 않은 것으로 본다
+        return count > 0;
+    }
+}
@@ -1,12 +1,11 @@
 package com.trever.backend.api.trade.controller;
 
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.trade.dto.ContractResponseDTO;
 import com.trever.backend.api.trade.entity.Contract;
 import com.trever.backend.api.trade.entity.Transaction;
 import com.trever.backend.api.trade.repository.ContractRepository;
 import com.trever.backend.api.trade.service.ContractService;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
 import com.trever.backend.api.user.service.UserService;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.NotFoundException;
@@ -23,8 +22,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
@@ -40,20 +37,15 @@ public class ContractController {
 
     private final ContractService contractService;
     private final ContractRepository contractRepository;
-    private final UserRepository userRepository;
 
     // 거래에 연결된 계약 조회
     @Operation(summary = "계약 조회 API", description = "계약을 조회합니다.")
     @GetMapping("/{contractId}")
     public ResponseEntity<ApiResponse<ContractResponseDTO>> getContract(
             @PathVariable Long contractId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername();
-        User loginUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        ContractResponseDTO contractResponseDTO = contractService.getContract(contractId, loginUser.getId());
+        ContractResponseDTO contractResponseDTO = contractService.getContract(contractId, userId);
         return ApiResponse.success(SuccessStatus.SEND_CONTRACT_SUCCESS, contractResponseDTO);
     }
 
@@ -92,11 +84,7 @@ public class ContractController {
     @GetMapping("/{contractId}/pdf")
     public ResponseEntity<Resource> getContractPdf(
             @PathVariable Long contractId,
-            @AuthenticationPrincipal UserDetails userDetails) throws MalformedURLException {
-
-        String email = userDetails.getUsername();
-        User loginUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+            @CurrentUserId Long userId) throws MalformedURLException {
 
         Contract contract = contractRepository.findById(contractId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_CONTRACT_EXCEPTION.getMessage()));
@@ -106,8 +94,8 @@ public class ContractController {
         }
 
         Transaction tx = contract.getTransaction();
-        if (!tx.getBuyer().getId().equals(loginUser.getId()) &&
-                !tx.getSeller().getId().equals(loginUser.getId())) {
+        if (!tx.getBuyer().getId().equals(userId) &&
+                !tx.getSeller().getId().equals(userId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
@@ -1,23 +1,18 @@
 package com.trever.backend.api.trade.controller;
 
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.trade.dto.PurchaseApplicationRequestDTO;
 import com.trever.backend.api.trade.dto.PurchaseApplicationResponseDTO;
 import com.trever.backend.api.trade.dto.TransactionResponseDTO;
 import com.trever.backend.api.trade.entity.PurchaseApplication;
 import com.trever.backend.api.trade.entity.Transaction;
 import com.trever.backend.api.trade.service.TransactionService;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
-import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ApiResponse;
-import com.trever.backend.common.response.ErrorStatus;
 import com.trever.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,20 +24,15 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final UserRepository userRepository;
 
     // 구매 신청
     @Operation(summary = "구매 신청 API", description = "구매자가 차량에 구매 신청을 합니다.")
     @PostMapping("/apply/{vehicleId}")
     public ResponseEntity<ApiResponse<PurchaseApplicationResponseDTO>> apply(
             @PathVariable Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername(); // JWT에서 꺼낸 email
-        User buyer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        PurchaseApplicationResponseDTO response = transactionService.apply(vehicleId, buyer.getId());
+        PurchaseApplicationResponseDTO response = transactionService.apply(vehicleId, userId);
         return ApiResponse.success(SuccessStatus.PURCHASE_REQUEST_CREATE_SUCCESS, response);
     }
 
@@ -51,13 +41,9 @@ public class TransactionController {
     @GetMapping("/requests/{vehicleId}")
     public ResponseEntity<ApiResponse<List<PurchaseApplicationResponseDTO>>> getRequests(
             @PathVariable Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        String email = userDetails.getUsername();
-        User seller = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+            @CurrentUserId Long userId) {
 
-        List<PurchaseApplicationResponseDTO> requests = transactionService.getRequestsByVehicle(vehicleId, seller.getId());
+        List<PurchaseApplicationResponseDTO> requests = transactionService.getRequestsByVehicle(vehicleId, userId);
         return ApiResponse.success(SuccessStatus.PURCHASE_REQUEST_LIST_SUCCESS, requests);
     }
 
@@ -66,14 +52,10 @@ public class TransactionController {
     @PostMapping("/select/{vehicleId}")
     public ResponseEntity<ApiResponse<TransactionResponseDTO>> selectBuyer(
             @PathVariable Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUserId Long userId,
             @RequestParam Long buyerId) {
 
-        String email = userDetails.getUsername();
-        User seller = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        TransactionResponseDTO response = transactionService.selectBuyer(vehicleId, seller.getId(), buyerId);
+        TransactionResponseDTO response = transactionService.selectBuyer(vehicleId, userId, buyerId);
         return ApiResponse.success(SuccessStatus.TRANSACTION_CREATE_SUCCESS, response);
     }
 
@@ -90,13 +72,9 @@ public class TransactionController {
     @GetMapping("/{transactionId}")
     public ResponseEntity<ApiResponse<TransactionResponseDTO>> getTransaction(
             @PathVariable Long transactionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+            @CurrentUserId Long userId) {
 
-        TransactionResponseDTO transactionResponseDTO = transactionService.getTransaction(transactionId, user.getId());
+        TransactionResponseDTO transactionResponseDTO = transactionService.getTransaction(transactionId, userId);
 
         return ApiResponse.success(SuccessStatus.TRANSACTION_GET_SUCCESS, transactionResponseDTO);
     }
@@ -104,39 +82,27 @@ public class TransactionController {
     @Operation(summary = "구매 내역 조회 API", description = "사용자가 구매 완료한 거래 내역을 조회합니다.")
     @GetMapping("/my/purchases")
     public ResponseEntity<ApiResponse<List<TransactionResponseDTO>>> getMyPurchases(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        List<TransactionResponseDTO> purchases = transactionService.getMyPurchases(user.getId());
+        List<TransactionResponseDTO> purchases = transactionService.getMyPurchases(userId);
         return ApiResponse.success(SuccessStatus.TRANSACTION_LIST_SUCCESS, purchases);
     }
 
     @Operation(summary = "판매 내역 조회 API", description = "사용자가 판매 완료한 거래 내역을 조회합니다.")
     @GetMapping("/my/sales")
     public ResponseEntity<ApiResponse<List<TransactionResponseDTO>>> getMySales(
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+            @CurrentUserId Long userId) {
 
-        List<TransactionResponseDTO> sales = transactionService.getMySales(user.getId());
+        List<TransactionResponseDTO> sales = transactionService.getMySales(userId);
         return ApiResponse.success(SuccessStatus.TRANSACTION_LIST_SUCCESS, sales);
     }
 
     @Operation(summary = "진행 중 거래 내역 (전체)", description = "내가 참여한 모든 진행 중 거래를 조회합니다.")
     @GetMapping("/my/in-progress")
     public ResponseEntity<ApiResponse<List<TransactionResponseDTO>>> getMyInProgress(
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+            @CurrentUserId Long userId) {
 
-        List<TransactionResponseDTO> response = transactionService.getMyInProgress(user.getId());
+        List<TransactionResponseDTO> response = transactionService.getMyInProgress(userId);
         return ApiResponse.success(SuccessStatus.TRANSACTION_LIST_SUCCESS, response);
     }
 }
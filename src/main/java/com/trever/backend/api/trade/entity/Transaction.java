@@ -9,7 +9,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        indexes = {
+                // 구매/판매 내역 조회: 사용자 + 거래 상태
+                @Index(name = "idx_transactions_buyer_status", columnList = "buyer_id, status"),
+                @Index(name = "idx_transactions_seller_status", columnList = "seller_id, status")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,6 +12,7 @@ import com.trever.backend.api.user.repository.UserProfileRepository;
 import com.trever.backend.api.user.service.UserWalletService;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
 import com.trever.backend.api.vehicle.repository.VehicleRepository;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.InternalServerException;
@@ -20,6 +21,7 @@ import com.trever.backend.common.response.ErrorStatus;
 import com.trever.backend.common.util.PdfGenerator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -40,6 +42,7 @@ public class ContractService {
     private final UserProfileRepository userProfileRepository;
     private final VehicleRepository vehicleRepository;
     private final UserWalletService userWalletService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 계약 생성 (거래 확정 시 자동 생성)
     @Transactional
@@ -69,6 +72,7 @@ public class ContractService {
         // 거래 상태도 완료 처리
         Vehicle vehicle = transaction.getVehicle();
         vehicleRepository.updateVehicleStatus(vehicle.getId(), VehicleStatus.ENDED);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getId()));
 
         transaction.setStatus(TransactionStatus.COMPLETED);
         transaction.setCompletedAt(LocalDateTime.now());
@@ -18,6 +18,7 @@ import com.trever.backend.api.user.service.UserWalletService;
 import com.trever.backend.api.user.service.UserService;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
 import com.trever.backend.api.vehicle.repository.VehicleRepository;
 import com.trever.backend.api.vehicle.service.VehicleService;
 import com.trever.backend.common.exception.BadRequestException;
@@ -25,6 +26,7 @@ import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -45,6 +47,7 @@ public class TransactionService {
     private final ContractService contractService;
     private final UserRepository userRepository;
     private final UserWalletService userWalletService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 구매 신청 (일반 거래)
     @Transactional
@@ -140,6 +143,7 @@ public class TransactionService {
         // 차량 상태 변경
         vehicle.setVehicleStatus(VehicleStatus.IN_PROGRESS);
         vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getId()));
 
         Transaction savedTransaction = transactionRepository.save(transaction);
 
@@ -182,6 +186,7 @@ public class TransactionService {
 
         // 차량 상태 변경
         vehicle.setVehicleStatus(VehicleStatus.IN_PROGRESS);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getId()));
 
         // 5. 거래 저장 후 계약 생성
         Transaction saved = transactionRepository.save(transaction);
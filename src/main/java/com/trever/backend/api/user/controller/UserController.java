@@ -2,6 +2,7 @@ package com.trever.backend.api.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.gax.rpc.ApiException;
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.user.dto.*;
 import com.trever.backend.api.user.service.UserService;
 import com.trever.backend.common.response.ApiResponse;
@@ -18,6 +19,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -31,9 +34,9 @@ public class UserController {
     // 회원가입
     @Operation(summary = "회원가입 API", description = "회원정보를 받아 사용자를 등록합니다.")
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> signup(@RequestBody UserSignupRequestDTO userSignupRequestDTO) {
-        UserResponseDTO response = userService.signup(userSignupRequestDTO);
-        return ApiResponse.success(SuccessStatus.SEND_REGISTER_SUCCESS, response);
+    public CompletableFuture<ResponseEntity<ApiResponse<UserResponseDTO>>> signup(@RequestBody UserSignupRequestDTO userSignupRequestDTO) {
+        return userService.signup(userSignupRequestDTO)
+                .thenApply(response -> ApiResponse.success(SuccessStatus.SEND_REGISTER_SUCCESS, response));
     }
 
     @PostMapping("/auth/google/login")
@@ -60,10 +63,9 @@ public class UserController {
     // 로그인
     @Operation(summary = "로그인 API", description = "이메일로 로그인을 처리합니다.")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<UserLoginResponseDTO>> login(@RequestBody UserLoginRequestDTO userLoginRequestDTO) {
-        UserLoginResponseDTO response = userService.login(userLoginRequestDTO);
-
-        return ApiResponse.success(SuccessStatus.SEND_LOGIN_SUCCESS, response);
+    public CompletableFuture<ResponseEntity<ApiResponse<UserLoginResponseDTO>>> login(@RequestBody UserLoginRequestDTO userLoginRequestDTO) {
+        return userService.login(userLoginRequestDTO)
+                .thenApply(response -> ApiResponse.success(SuccessStatus.SEND_LOGIN_SUCCESS, response));
     }
 
     // 토큰 재발급
@@ -129,13 +131,14 @@ public class UserController {
         }
     }
 
-    @Operation(summary = "로그아웃 API", description = "사용자가 로그아웃합니다.")
+    @Operation(summary = "로그아웃 API", description = "사용자가 로그아웃합니다. refreshToken 을 보내면 해당 기기만, 보내지 않으면 모든 기기에서 로그아웃합니다.")
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId,
+            @RequestBody(required = false) TokenRequestDTO tokenRequestDTO) {
 
-        String email = userDetails.getUsername(); // JWT에서 꺼낸 이메일
-        userService.logout(email);
+        String refreshToken = (tokenRequestDTO != null) ? tokenRequestDTO.getRefreshToken() : null;
+        userService.logout(userId, refreshToken);
         return ApiResponse.success_only(SuccessStatus.SEND_LOGOUT_SUCCESS);
     }
 }
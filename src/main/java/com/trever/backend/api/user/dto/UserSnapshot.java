@@ -0,0 +1,19 @@
+package com.trever.backend.api.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 불변 사용자 정보 (users + user_profiles 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final String phone;
+    private final String locationCity;
+    private final String profileImageUrl;
+}
@@ -0,0 +1,43 @@
+package com.trever.backend.api.user.entity;
+
+import com.trever.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급된 리프레시 토큰 (기기별 1행, 토큰 원문 대신 SHA-256 해시 저장)
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = {"token_hash"})
+        },
+        indexes = {
+                // 사용자별 토큰 조회 (기기 수 제한, 로그아웃)
+                @Index(name = "idx_refresh_tokens_user", columnList = "user_id, created_at"),
+                // 만료 토큰 정리
+                @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package com.trever.backend.api.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 정보 변경 이벤트 (정보 수정, 프로필 완성, 로그아웃)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String email;
+}
@@ -1,14 +1,28 @@
 package com.trever.backend.api.user.repository;
 
+import com.trever.backend.api.user.dto.UserSnapshot;
 import com.trever.backend.api.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    String SNAPSHOT_SELECT =
+            "SELECT new com.trever.backend.api.user.dto.UserSnapshot(" +
+            "u.id, u.email, u.name, u.phone, p.locationCity, p.profileImageUrl) " +
+            "FROM User u LEFT JOIN UserProfile p ON p.user = u ";
+
     Optional<User> findByEmail(String email);
-    Optional<User> findByRefreshToken(String refreshToken);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.id = :userId")
+    Optional<UserSnapshot> findSnapshotById(@Param("userId") Long userId);
+
+    @Query(SNAPSHOT_SELECT + "WHERE u.email = :email")
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") String email);
 
 }
@@ -0,0 +1,117 @@
+package com.trever.backend.api.user.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.trever.backend.common.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 구글 공개 인증서 로컬 캐시
+ * 만료 전에 미리 갱신하고(refresh-ahead), 갱신에 실패하면 기존 키를 계속 사용해
+ * 로그인 요청이 원격 조회를 기다리거나 잠깐의 장애로 실패하지 않게 한다.
+ * 단, 만료 후 유예 기간(24시간)이 지나도록 갱신하지 못하면 폐기된 키를 믿지 않도록 구글 로그인을 거부한다.
+ */
+@Slf4j
+@Component
+public class GoogleCertificateCache implements GooglePublicKeySource {
+
+    // 만료까지 이 시간보다 적게 남으면 미리 갱신 (30분)
+    private static final long REFRESH_AHEAD_MILLIS = 30 * 60 * 1000L;
+
+    // 강제 갱신 최소 간격 (잘못된 토큰으로 인한 반복 조회 방지, 1분)
+    private static final long MIN_FORCE_REFRESH_INTERVAL_MILLIS = 60 * 1000L;
+
+    // 갱신 실패 시 만료된 키를 계속 쓸 수 있는 최대 시간 (24시간)
+    private static final long MAX_STALE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final GooglePublicKeysManager publicKeysManager =
+            new GooglePublicKeysManager(new NetHttpTransport(), GsonFactory.getDefaultInstance());
+
+    private volatile Keys keys;
+    private volatile long lastForcedRefreshAt;
+
+    // 갱신끼리 겹치지 않도록 (원격 조회 동안 잡고 있으므로 모니터 대신 ReentrantLock)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Override
+    public List<PublicKey> getPublicKeys() {
+        if (keys == null) {
+            // 기동 직후 아직 받아 온 키가 없으면 동기로 조회
+            refresh();
+        } else if (keys.isPastGrace(System.currentTimeMillis())) {
+            // 유예 기간까지 지났으면 동기로 다시 시도 (원격 장애 중 반복 조회하지 않도록 강제 갱신 간격 적용)
+            forceRefresh();
+        }
+        Keys current = keys;
+        if (current == null || current.isPastGrace(System.currentTimeMillis())) {
+            throw new ServiceUnavailableException("구글 인증서를 가져올 수 없습니다.");
+        }
+        return current.publicKeys;
+    }
+
+    @Override
+    public boolean forceRefresh() {
+        long now = System.currentTimeMillis();
+        if (now - lastForcedRefreshAt < MIN_FORCE_REFRESH_INTERVAL_MILLIS) {
+            return false;
+        }
+        lastForcedRefreshAt = now;
+        return refresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * 만료가 가까운 인증서 미리 갱신 (5분마다 확인)
+     */
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void refreshAhead() {
+        Keys current = keys;
+        if (current == null || current.expiresAt - System.currentTimeMillis() < REFRESH_AHEAD_MILLIS) {
+            refresh();
+        }
+    }
+
+    private boolean refresh() {
+        refreshLock.lock();
+        try {
+            publicKeysManager.refresh();
+            keys = new Keys(List.copyOf(publicKeysManager.getPublicKeys()),
+                    publicKeysManager.getExpirationTimeMilliseconds());
+            log.debug("구글 인증서 갱신: {}개", keys.publicKeys.size());
+            return true;
+        } catch (Exception e) {
+            // 기존 키가 있으면 만료 후 유예 기간까지 계속 사용 (구글은 키를 교체 주기보다 길게 유지)
+            log.warn("구글 인증서 갱신 실패, 기존 키 유지: {}", e.getMessage());
+            return false;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static final class Keys {
+        private final List<PublicKey> publicKeys;
+        private final long expiresAt;
+
+        private Keys(List<PublicKey> publicKeys, long expiresAt) {
+            this.publicKeys = publicKeys;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isPastGrace(long now) {
+            return now > expiresAt + MAX_STALE_MILLIS;
+        }
+    }
+}
@@ -1,37 +1,118 @@
 package com.trever.backend.api.user.service;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
+import com.trever.backend.common.util.HashUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구글 ID 토큰 검증
+ * 서명은 GooglePublicKeySource 의 로컬 키로 검증하고(원격 조회 없음), 발급자/대상/유효 시간은 직접 확인한다.
+ * 검증된 토큰은 해시로 잠깐 보관해 같은 토큰의 재시도는 다시 검증하지 않는다.
+ */
 @Slf4j
 @Service
 public class GoogleOAuthService {
-    private final GoogleIdTokenVerifier verifier;
 
-    public GoogleOAuthService(@Value("${google.oauth.web-client-id}") String webClientId, @Value("${google.oauth.ios-client-id}") String iosClientId) {
-        this.verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
-                .setAudience(Arrays.asList(webClientId, iosClientId))
-                .build();
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+
+    // 발급/만료 시각 허용 오차 (GoogleIdTokenVerifier 기본값과 동일)
+    private static final long ACCEPTABLE_TIME_SKEW_SECONDS = 300;
+
+    // 검증 결과 보관 시간 (토큰 만료가 더 빠르면 그때까지)
+    private static final long VERIFIED_TTL_MILLIS = 5 * 60 * 1000L;
+    private static final int MAX_VERIFIED_TOKENS = 1_000;
+
+    private final List<String> audience;
+    private final GooglePublicKeySource publicKeySource;
+
+    // 토큰 SHA-256 → 검증된 payload
+    private final Map<String, VerifiedToken> verifiedTokens = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > MAX_VERIFIED_TOKENS;
+                }
+            });
+
+    public GoogleOAuthService(@Value("${google.oauth.web-client-id}") String webClientId,
+                              @Value("${google.oauth.ios-client-id}") String iosClientId,
+                              GooglePublicKeySource publicKeySource) {
+        this.audience = Arrays.asList(webClientId, iosClientId);
+        this.publicKeySource = publicKeySource;
     }
 
     public GoogleIdToken.Payload verifyIdToken(String idTokenString) {
+        String tokenHash = HashUtil.sha256Hex(idTokenString);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(tokenHash);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.payload;
+        }
+
+        GoogleIdToken idToken;
         try {
-            GoogleIdToken idToken = verifier.verify(idTokenString);
-            if (idToken == null) {
-                throw new IllegalArgumentException("Invalid Google ID token");
-            }
-            return idToken.getPayload();
-        } catch (GeneralSecurityException | IOException e) {
+            idToken = GoogleIdToken.parse(JSON_FACTORY, idTokenString);
+        } catch (IOException | IllegalArgumentException e) {
             throw new IllegalArgumentException("Failed to verify ID token", e);
         }
+
+        if (!idToken.verifyIssuer(ISSUERS)
+                || !idToken.verifyAudience(audience)
+                || !idToken.verifyTime(now, ACCEPTABLE_TIME_SKEW_SECONDS)) {
+            throw new IllegalArgumentException("Invalid Google ID token");
+        }
+
+        // 서명이 맞는 키가 없으면 키 교체 가능성이 있으므로 한 번 갱신 후 재시도
+        if (!verifySignature(idToken)
+                && !(publicKeySource.forceRefresh() && verifySignature(idToken))) {
+            throw new IllegalArgumentException("Invalid Google ID token");
+        }
+
+        GoogleIdToken.Payload payload = idToken.getPayload();
+        Long expirationSeconds = payload.getExpirationTimeSeconds();
+        long expiresAt = now + VERIFIED_TTL_MILLIS;
+        if (expirationSeconds != null) {
+            expiresAt = Math.min(expiresAt, expirationSeconds * 1000);
+        }
+        verifiedTokens.put(tokenHash, new VerifiedToken(payload, expiresAt));
+        return payload;
+    }
+
+    private boolean verifySignature(GoogleIdToken idToken) {
+        for (PublicKey publicKey : publicKeySource.getPublicKeys()) {
+            try {
+                if (idToken.verifySignature(publicKey)) {
+                    return true;
+                }
+            } catch (GeneralSecurityException e) {
+                log.debug("구글 ID 토큰 서명 검증 오류: {}", e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static final class VerifiedToken {
+        private final GoogleIdToken.Payload payload;
+        private final long expiresAt;
+
+        private VerifiedToken(GoogleIdToken.Payload payload, long expiresAt) {
+            this.payload = payload;
+            this.expiresAt = expiresAt;
+        }
     }
-}
\ No newline at end of file
+}
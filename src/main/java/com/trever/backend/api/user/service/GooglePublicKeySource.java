@@ -0,0 +1,23 @@
+package com.trever.backend.api.user.service;
+
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * 구글 ID 토큰 서명 검증용 공개키 공급원
+ * 운영에서는 GoogleCertificateCache 를, 테스트에서는 로컬 키 목록을 돌려주는 구현을 사용한다.
+ */
+public interface GooglePublicKeySource {
+
+    /**
+     * 현재 유효한 공개키 목록
+     */
+    List<PublicKey> getPublicKeys();
+
+    /**
+     * 키 교체 등으로 서명이 맞지 않을 때 즉시 다시 가져오기 (지원하지 않으면 false)
+     */
+    default boolean forceRefresh() {
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.trever.backend.api.user.service;
+
+import com.trever.backend.common.exception.ServiceUnavailableException;
+import com.trever.backend.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ * BCrypt 는 CPU 를 많이 쓰므로 요청 스레드가 아닌 크기가 제한된 전용 풀에서 실행한다.
+ * 대기열이 가득 차면 즉시 거절(503)해 로그인 폭주가 입찰/목록 요청의 스레드를 잡아먹지 않게 한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // 해시 작업 스레드 수 (코어 절반, 최소 2)
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    // 대기 가능한 최대 작업 수
+    private static final int QUEUE_CAPACITY = 200;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "PasswordHasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    completed.increment();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 작업 거절: 대기 {}건", executor.getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new ServiceUnavailableException(ErrorStatus.AUTH_SERVER_BUSY.getMessage()));
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(completed.sum(), rejected.sum(), executor.getActiveCount(), executor.getQueue().size());
+    }
+
+    /**
+     * 처리/거절 현황 기록 (10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void logStats() {
+        Stats stats = getStats();
+        if (stats.getCompleted() > 0 || stats.getRejected() > 0) {
+            log.info("비밀번호 해시: 처리 {}건, 거절 {}건, 실행 중 {}건, 대기 {}건",
+                    stats.getCompleted(), stats.getRejected(), stats.getActive(), stats.getQueued());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 누적 처리 통계
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final long completed;
+        private final long rejected;
+        private final int active;
+        private final int queued;
+    }
+}
@@ -0,0 +1,120 @@
+package com.trever.backend.api.user.service;
+
+import com.trever.backend.api.jwt.JwtProvider;
+import com.trever.backend.api.user.entity.RefreshToken;
+import com.trever.backend.api.user.repository.RefreshTokenRepository;
+import com.trever.backend.common.exception.BadRequestException;
+import com.trever.backend.common.util.HashUtil;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 저장소 (users 테이블과 분리)
+ * 토큰은 SHA-256 해시로만 저장하고, 사용자당 최근 MAX_DEVICES 개 기기까지 유지한다.
+ * 재발급 시 기존 토큰은 폐기(rotation)하고, 만료된 토큰은 주기적으로 나눠서 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    // 사용자당 유지하는 최대 기기(토큰) 수
+    private static final int MAX_DEVICES = 5;
+
+    // 만료 토큰 삭제 단위
+    private static final int CLEANUP_BATCH_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
+
+    /**
+     * 리프레시 토큰 발급 및 저장
+     */
+    @Transactional
+    public String issue(Long userId, String email) {
+        String token = jwtProvider.generateRefreshToken(email);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                jwtProvider.parseClaims(token).getExpiration().toInstant(), ZoneId.systemDefault());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(HashUtil.sha256Hex(token))
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+
+        // 기기 수 초과분은 오래된 토큰부터 폐기
+        List<Long> tokenIds = refreshTokenRepository.findIdsByUserId(userId);
+        if (tokenIds.size() > MAX_DEVICES) {
+            refreshTokenRepository.deleteAllByIdInBatch(tokenIds.subList(MAX_DEVICES, tokenIds.size()));
+        }
+        return token;
+    }
+
+    /**
+     * 재발급용 토큰 사용 (사용한 토큰은 폐기) → 토큰 주인 id
+     */
+    @Transactional
+    public Long consume(String refreshToken) {
+        if (!jwtProvider.validateRefreshToken(refreshToken)) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        String tokenHash = HashUtil.sha256Hex(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new BadRequestException("Refresh token not registered"));
+
+        // 같은 토큰으로 동시에 재발급하면 먼저 삭제한 요청만 성공
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new BadRequestException("Refresh token not registered");
+        }
+        return stored.getUserId();
+    }
+
+    /**
+     * 한 기기 로그아웃 → 폐기한 토큰 수
+     */
+    @Transactional
+    public int revoke(Long userId, String refreshToken) {
+        return refreshTokenRepository.deleteByTokenHashAndUserId(HashUtil.sha256Hex(refreshToken), userId);
+    }
+
+    /**
+     * 모든 기기 로그아웃 → 폐기한 토큰 수
+     */
+    @Transactional
+    public int revokeAll(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료 토큰 정리 (1시간마다, CLEANUP_BATCH_SIZE 개씩)
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest batch = PageRequest.of(0, CLEANUP_BATCH_SIZE);
+
+        int deleted = 0;
+        List<Long> expiredIds;
+        do {
+            expiredIds = refreshTokenRepository.findExpiredIds(now, batch);
+            if (!expiredIds.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(expiredIds);
+                deleted += expiredIds.size();
+            }
+        } while (expiredIds.size() == CLEANUP_BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("만료 리프레시 토큰 정리: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.trever.backend.api.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰 발급 시 부여할 권한 결정
+ * 모든 사용자는 ROLE_USER, 설정(app.admin-emails, 쉼표 구분)에 등록된 이메일은 ROLE_ADMIN 을 추가로 받는다.
+ */
+@Slf4j
+@Component
+public class UserRoleResolver {
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final Set<String> adminEmails;
+
+    public UserRoleResolver(@Value("${app.admin-emails:}") String adminEmails) {
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        log.info("관리자 계정 {}개 등록", this.adminEmails.size());
+    }
+
+    public List<GrantedAuthority> authoritiesFor(String email) {
+        return email != null && adminEmails.contains(email.toLowerCase(Locale.ROOT))
+                ? ADMIN_AUTHORITIES
+                : USER_AUTHORITIES;
+    }
+
+    /**
+     * 토큰 발급용 인증 객체 생성
+     */
+    public Authentication authenticationFor(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null, authoritiesFor(email));
+    }
+}
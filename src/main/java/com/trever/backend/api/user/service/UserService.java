@@ -6,6 +6,7 @@ import com.trever.backend.api.user.dto.*;
 import com.trever.backend.api.user.entity.User;
 import com.trever.backend.api.user.entity.UserProfile;
 import com.trever.backend.api.user.entity.UserWallet;
+import com.trever.backend.api.user.event.UserChangedEvent;
 import com.trever.backend.api.user.repository.UserProfileRepository;
 import com.trever.backend.api.user.repository.UserRepository;
 import com.trever.backend.api.user.repository.UserWalletRepository;
@@ -15,12 +16,11 @@ import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.threeten.bp.format.DateTimeParseException;
 
@@ -28,9 +28,9 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
@@ -38,16 +38,23 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenService refreshTokenService;
+    private final UserSnapshotCache userSnapshotCache;
     private final UserWalletService userWalletService;
     private final JwtProvider jwtProvider;
+    private final UserRoleResolver userRoleResolver;
     private final UserWalletRepository userWalletRepository;
     private final GoogleOAuthService googleOAuthService;
     private final FirebaseStorageService firebaseStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    // 해시 이후의 DB/토큰 작업 실행기 (@Async 공용 실행기, 이름으로 주입)
+    // 해시 전용 풀은 BCrypt 만 처리해야 대기열이 DB 작업 시간만큼 밀리지 않는다
+    private final Executor applicationTaskExecutor;
 
-    // 회원가입
-    @Transactional
-    public UserResponseDTO signup(UserSignupRequestDTO userSignupRequestDTO) {
+    // 회원가입 (비밀번호 해시는 전용 실행기에서 처리 후 저장)
+    public CompletableFuture<UserResponseDTO> signup(UserSignupRequestDTO userSignupRequestDTO) {
 
         // 이메일 중복 체크
         if (userRepository.findByEmail(userSignupRequestDTO.getEmail()).isPresent()) {
@@ -60,52 +67,53 @@ public class UserService {
         }
 
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(userSignupRequestDTO.getPassword());
-
-        // User 저장
-        User user = userSignupRequestDTO.toEntity(encodedPassword);
-        User savedUser = userRepository.save(user);
+        return passwordHasher.encode(userSignupRequestDTO.getPassword())
+                .thenApplyAsync(encodedPassword -> transactionTemplate.execute(status -> {
+                    // User 저장
+                    User user = userSignupRequestDTO.toEntity(encodedPassword);
+                    User savedUser = userRepository.save(user);
 
-        // UserProfile 저장
-        UserProfile profile = userSignupRequestDTO.toProfileEntity(savedUser);
-        userProfileRepository.save(profile);
+                    // UserProfile 저장
+                    UserProfile profile = userSignupRequestDTO.toProfileEntity(savedUser);
+                    userProfileRepository.save(profile);
 
-        //UserWallet 생성
-        userWalletService.createUserWallet(user.getId());
+                    //UserWallet 생성
+                    userWalletService.createUserWallet(user.getId());
 
-        return UserResponseDTO.from(savedUser);
+                    return UserResponseDTO.from(savedUser);
+                }), applicationTaskExecutor);
     }
 
-    // 로그인
-    @Transactional
-    public UserLoginResponseDTO login(UserLoginRequestDTO userLoginRequestDTO) {
+    // 로그인 (비밀번호 검증은 전용 실행기에서 처리)
+    public CompletableFuture<UserLoginResponseDTO> login(UserLoginRequestDTO userLoginRequestDTO) {
 
         User user = userRepository.findByEmail(userLoginRequestDTO.getEmail())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(userLoginRequestDTO.getPassword(), user.getPassword())) {
+        // 비밀번호가 없는 계정(구글 가입)은 비밀번호 로그인 불가
+        if (user.getPassword() == null) {
             throw new BadRequestException(ErrorStatus.PASSWORD_MISMATCH_EXCEPTION.getMessage());
         }
 
-        // 인증 객체 생성 (권한 ROLE_USER 고정)
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
-
-        // jwt 발급
-        String accessToken = jwtProvider.generateAccessToken(authentication);
-        String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
-
-        // DB에 리프레시 토큰 저장
-        user.updateRefreshtoken(refreshToken);
-        userRepository.save(user);
-
-        return UserLoginResponseDTO.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        // 비밀번호 검증
+        return passwordHasher.matches(userLoginRequestDTO.getPassword(), user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new BadRequestException(ErrorStatus.PASSWORD_MISMATCH_EXCEPTION.getMessage());
+                    }
+
+                    // 인증 객체 생성 (ROLE_USER, 관리자 이메일이면 ROLE_ADMIN 추가)
+                    Authentication authentication = userRoleResolver.authenticationFor(user.getEmail());
+
+                    // jwt 발급
+                    String accessToken = jwtProvider.generateAccessToken(user.getId(), authentication);
+                    String refreshToken = refreshTokenService.issue(user.getId(), user.getEmail());
+
+                    return UserLoginResponseDTO.builder()
+                            .accessToken(accessToken)
+                            .refreshToken(refreshToken)
+                            .build();
+                }, applicationTaskExecutor);
     }
 
     @Transactional
@@ -123,13 +131,9 @@ public class UserService {
 
         // 기존 사용자 조회 (이 프로젝트에서는 email 기준으로 사용)
         User user = userRepository.findByEmail(email).orElseGet(() -> {
-            // 신규 유저 생성
-            String randomPw = UUID.randomUUID().toString();
-            String encodedPw = passwordEncoder.encode(randomPw);
-
+            // 신규 유저 생성 (비밀번호 로그인을 쓰지 않으므로 비밀번호 없이 저장)
             User newUser = User.builder()
                     .email(email)
-                    .password(encodedPw)
                     .name(name)
                     .build();
 
@@ -148,19 +152,12 @@ public class UserService {
             return saved;
         });
 
-        // 인증 객체 생성 (권한 ROLE_USER)
-        Authentication auth = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
+        // 인증 객체 생성 (ROLE_USER, 관리자 이메일이면 ROLE_ADMIN 추가)
+        Authentication auth = userRoleResolver.authenticationFor(user.getEmail());
 
         // JWT 발급 (기존 login()과 동일하게)
-        String accessToken = jwtProvider.generateAccessToken(auth);
-        String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
-
-        // DB에 refreshToken 저장
-        user.updateRefreshtoken(refreshToken);
-        userRepository.save(user);
+        String accessToken = jwtProvider.generateAccessToken(user.getId(), auth);
+        String refreshToken = refreshTokenService.issue(user.getId(), user.getEmail());
 
         // --- 프로필 완성도 검사 ---
         UserProfile profile = userProfileRepository.findByUser(user)
@@ -236,6 +233,7 @@ public class UserService {
         // save
         userRepository.save(user);
         userProfileRepository.save(profile);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
     }
 
     // 토큰 재발급
@@ -244,26 +242,17 @@ public class UserService {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new BadCredentialsException("Missing refresh token");
         }
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new BadCredentialsException("Invalid refresh token");
-        }
 
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new BadRequestException("Refresh token not registered"));
+        // 기존 토큰 폐기 (rotation)
+        Long userId = refreshTokenService.consume(refreshToken);
+        UserSnapshot user = userSnapshotCache.getById(userId);
 
-        // 인증 객체 생성 (권한 ROLE_USER 고정)
-        Authentication auth = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
+        // 인증 객체 생성 (ROLE_USER, 관리자 이메일이면 ROLE_ADMIN 추가)
+        Authentication auth = userRoleResolver.authenticationFor(user.getEmail());
 
         // 새 토큰 발급
-        String newAccess = jwtProvider.generateAccessToken(auth);
-        String newRefresh = jwtProvider.generateRefreshToken(user.getEmail());
-
-        // 리프레시 토큰 rotation
-        user.updateRefreshtoken(newRefresh);
-        userRepository.save(user);
+        String newAccess = jwtProvider.generateAccessToken(user.getId(), auth);
+        String newRefresh = refreshTokenService.issue(user.getId(), user.getEmail());
 
         return TokenResponseDTO.builder()
                 .accessToken(newAccess)
@@ -337,18 +326,20 @@ public class UserService {
 
         userRepository.save(user);
         userProfileRepository.save(profile);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
     }
 
-    // 로그아웃
+    // 로그아웃 (리프레시 토큰을 주면 해당 기기만, 없으면 모든 기기)
     @Transactional
-    public void logout(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+    public void logout(Long userId, String refreshToken) {
+        int revoked = (refreshToken != null && !refreshToken.isBlank())
+                ? refreshTokenService.revoke(userId, refreshToken)
+                : refreshTokenService.revokeAll(userId);
 
-        if (user.getRefreshToken() == null) {
+        if (revoked == 0) {
             throw new BadRequestException(ErrorStatus.USER_ALREADY_LOGGED_OUT.getMessage());
         }
 
-        user.updateRefreshtoken(null);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, null));
     }
 }
@@ -0,0 +1,197 @@
+package com.trever.backend.api.user.service;
+
+import com.trever.backend.api.user.dto.UserSnapshot;
+import com.trever.backend.api.user.event.UserChangedEvent;
+import com.trever.backend.api.user.repository.UserRepository;
+import com.trever.backend.common.exception.NotFoundException;
+import com.trever.backend.common.response.ErrorStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 정보 캐시 (id / 이메일 → 불변 스냅샷)
+ * 존재 확인이나 이름/연락처 조회처럼 엔티티가 필요 없는 곳에서 users SELECT 를 줄인다.
+ * 정보 수정/프로필 완성/로그아웃 커밋 후 UserChangedEvent 로 무효화하고, 그 외 변경은 TTL 로 반영한다.
+ * 조회하는 동안 무효화가 있었으면 조회 결과는 변경 전 값일 수 있으므로 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCache {
+
+    // 캐시할 최대 사용자 수
+    private static final int MAX_USERS = 10_000;
+
+    // 스냅샷 유효 시간 (5분)
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Entry> byId = lruMap();
+    private final Map<String, Entry> byEmail = lruMap();
+
+    // 무효화 횟수 (조회 시작 시 값과 다르면 조회 결과를 넣지 않음), 증가와 넣기는 lock 으로 직렬화
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Object lock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public Optional<UserSnapshot> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserSnapshot cached = lookup(byId, userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long version = invalidations.get();
+        Optional<UserSnapshot> loaded = userRepository.findSnapshotById(userId);
+        loaded.ifPresent(snapshot -> put(snapshot, version));
+        return loaded;
+    }
+
+    public Optional<UserSnapshot> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        UserSnapshot cached = lookup(byEmail, email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long version = invalidations.get();
+        Optional<UserSnapshot> loaded = userRepository.findSnapshotByEmail(email);
+        loaded.ifPresent(snapshot -> put(snapshot, version));
+        return loaded;
+    }
+
+    /**
+     * 사용자 조회 (없으면 USER_NOT_FOUND)
+     */
+    public UserSnapshot getById(Long userId) {
+        return findById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
+    }
+
+    public void invalidate(Long userId, String email) {
+        synchronized (lock) {
+            invalidations.incrementAndGet();
+            evict(userId, email);
+        }
+    }
+
+    /**
+     * 사용자 정보 변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId(), event.getEmail());
+    }
+
+    private void evict(Long userId, String email) {
+        Entry removed = (userId != null) ? byId.remove(userId) : null;
+        if (removed != null) {
+            byEmail.remove(removed.snapshot.getEmail());
+        }
+        if (email != null) {
+            removed = byEmail.remove(email);
+            if (removed != null) {
+                byId.remove(removed.snapshot.getId());
+            }
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), byId.size());
+    }
+
+    /**
+     * 적중률 기록 (10분마다, 적중 수 = 줄어든 users SELECT 수)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void logStats() {
+        Stats stats = getStats();
+        if (stats.getRequests() > 0) {
+            log.info("사용자 캐시: 적중 {}건, 미적중 {}건, 적중률 {}%, 보관 {}명",
+                    stats.getHits(), stats.getMisses(), Math.round(stats.getHitRate() * 1000) / 10.0, stats.getSize());
+        }
+    }
+
+    private <K> UserSnapshot lookup(Map<K, Entry> cache, K key) {
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hits.increment();
+            return entry.snapshot;
+        }
+        if (entry != null) {
+            // 만료 제거는 변경이 아니므로 진행 중인 조회 결과를 막지 않는다
+            evict(entry.snapshot.getId(), entry.snapshot.getEmail());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 조회 결과 저장 (조회 시작 후 무효화가 있었으면 버림)
+     */
+    private void put(UserSnapshot snapshot, long version) {
+        Entry entry = new Entry(snapshot, System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (lock) {
+            if (invalidations.get() != version) {
+                return;
+            }
+            byId.put(snapshot.getId(), entry);
+            byEmail.put(snapshot.getEmail(), entry);
+        }
+    }
+
+    private static <K> Map<K, Entry> lruMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry> eldest) {
+                return size() > MAX_USERS;
+            }
+        });
+    }
+
+    /**
+     * 누적 적중 통계
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+
+        public long getRequests() {
+            return hits + misses;
+        }
+
+        public double getHitRate() {
+            long requests = getRequests();
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Entry {
+        private final UserSnapshot snapshot;
+        private final long expiresAt;
+
+        private Entry(UserSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
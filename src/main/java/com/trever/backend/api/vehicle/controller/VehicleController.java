@@ -2,15 +2,14 @@ package com.trever.backend.api.vehicle.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trever.backend.api.jwt.CurrentUserId;
 import com.trever.backend.api.recent.service.RecentSearchService;
 import com.trever.backend.api.recent.service.RecentViewService;
-import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.user.repository.UserRepository;
 import com.trever.backend.api.vehicle.dto.*;
-import com.trever.backend.common.exception.NotFoundException;
 import com.trever.backend.common.response.ApiResponse;
-import com.trever.backend.common.response.ErrorStatus;
 import com.trever.backend.common.response.SuccessStatus;
+import com.trever.backend.api.vehicle.service.AutocompleteService;
+import com.trever.backend.api.vehicle.service.VehicleFacetService;
 import com.trever.backend.api.vehicle.service.VehicleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,8 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,8 +31,9 @@ import java.util.List;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final VehicleFacetService vehicleFacetService;
+    private final AutocompleteService autocompleteService;
     private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
     private final RecentViewService recentViewService;
     private final RecentSearchService recentSearchService;
     
@@ -44,17 +42,13 @@ public class VehicleController {
     public ResponseEntity<ApiResponse<Long>> createVehicle(
             @RequestPart("request") String requestString,
             @RequestPart(value = "photos", required = false) List<MultipartFile> photos,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId) {
         
         try {
             // JSON 문자열을 객체로 변환
             VehicleCreateRequest request = objectMapper.readValue(requestString, VehicleCreateRequest.class);
             
-            String email = userDetails.getUsername();
-            User seller = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-            
-            Long vehicleId = vehicleService.createVehicle(request, photos, seller.getId());
+            Long vehicleId = vehicleService.createVehicle(request, photos, userId);
             return ApiResponse.success(SuccessStatus.VEHICLE_CREATED, vehicleId);
 
         } catch (JsonProcessingException e) {
@@ -68,18 +62,9 @@ public class VehicleController {
     @GetMapping("/{vehicleId}")
     public ResponseEntity<ApiResponse<VehicleResponse>> getVehicleDetail(
             @PathVariable("vehicleId") Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        Long loginUserId = null;
-        String email = null;
-        if (userDetails != null) {
-            email = userDetails.getUsername();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-            loginUserId = user.getId();
-        }
+            @CurrentUserId(required = false) Long loginUserId) {
 
-        log.info("loginUserId={}, email={}", loginUserId, email);
+        log.info("loginUserId={}", loginUserId);
 
         VehicleResponse vehicle = vehicleService.getVehicleDetail(vehicleId, loginUserId);
         return ApiResponse.success(SuccessStatus.CAR_INFO_SUCCESS, vehicle);
@@ -92,14 +77,10 @@ public class VehicleController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) Boolean isAuction,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId(required = false) Long userId
             ) {
 
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-        
-        VehicleListResponse vehicles = vehicleService.getVehicles(page, size, sortBy, isAuction, user.getId());
+        VehicleListResponse vehicles = vehicleService.getVehicles(page, size, sortBy, isAuction, userId);
         return ApiResponse.success(SuccessStatus.CAR_INFO_SUCCESS, vehicles);
     }
     
@@ -107,13 +88,9 @@ public class VehicleController {
     @DeleteMapping("/{vehicleId}")
     public ResponseEntity<ApiResponse<Void>> deleteVehicle(
             @PathVariable Long vehicleId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @CurrentUserId Long userId) {
 
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-
-        vehicleService.deleteVehicle(vehicleId, user.getId());
+        vehicleService.deleteVehicle(vehicleId, userId);
         return ApiResponse.success_only(SuccessStatus.CAR_INFO_SUCCESS);
     }
 
@@ -144,13 +121,9 @@ public class VehicleController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String sortBy,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId Long userId
     ) {
-        String email = userDetails.getUsername();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
-        
-        VehicleListResponse response = vehicleService.getMyVehicles(user.getId(), page, size, sortBy);
+        VehicleListResponse response = vehicleService.getMyVehicles(userId, page, size, sortBy);
         
         return ApiResponse.success(SuccessStatus.READ_MY_VEHICLE_SUCCESS, response);
     }
@@ -178,17 +151,11 @@ public class VehicleController {
     @Operation(summary = "차량 검색", description = "차량을 검색합니다.")
     public ResponseEntity<ApiResponse<VehicleListResponse>> searchVehicles(
             @RequestBody VehicleSearchRequest request,
-            @AuthenticationPrincipal UserDetails userDetails
+            @CurrentUserId(required = false) Long loginUserId
     ) {
         VehicleListResponse result = vehicleService.searchByFilter(request);
 
-        Long loginUserId = null;
-        if (userDetails != null && request.getKeyword() != null) {
-            String email = userDetails.getUsername();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND.getMessage()));
-            loginUserId = user.getId();
-
+        if (loginUserId != null && request.getKeyword() != null) {
             // 최근 검색어 저장
             recentSearchService.addSearch(loginUserId, request.getKeyword());
         }
@@ -197,6 +164,38 @@ public class VehicleController {
         return ApiResponse.success(SuccessStatus.CAR_INFO_SUCCESS, result);
     }
 
+    /**
+     * 필터링 조건별 차량 수 집계
+     */
+    @PostMapping("/facets")
+    @Operation(summary = "차량 필터 집계", description = "검색 조건에 해당하는 차량 수를 제조사/차명/모델/차종/연료/가격/연식별로 집계합니다.")
+    public ResponseEntity<ApiResponse<VehicleFacetResponse>> getFacets(
+            @RequestBody VehicleSearchRequest request) {
+        VehicleFacetResponse result = vehicleFacetService.getFacets(request);
+        return ApiResponse.success(SuccessStatus.CAR_FACET_SUCCESS, result);
+    }
+
+    /**
+     * 검색어 자동완성
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "검색어 자동완성", description = "접두사로 시작하는 제조사/차명/모델명과 인기 검색어를 최대 10개 조회합니다.")
+    public ResponseEntity<ApiResponse<List<String>>> autocomplete(
+            @RequestParam(required = false) String prefix) {
+        List<String> result = autocompleteService.autocomplete(prefix);
+        return ApiResponse.success(SuccessStatus.AUTOCOMPLETE_SUCCESS, result);
+    }
+
+    /**
+     * 인기 검색어 조회
+     */
+    @GetMapping("/popular-keywords")
+    @Operation(summary = "인기 검색어 조회", description = "최근 검색량 기준 인기 검색어를 최대 10개 조회합니다.")
+    public ResponseEntity<ApiResponse<List<String>>> getPopularKeywords() {
+        List<String> result = autocompleteService.getPopularKeywords();
+        return ApiResponse.success(SuccessStatus.POPULAR_KEYWORD_SUCCESS, result);
+    }
+
     /**
      * 국산/수입별 제조사 및 차량 수 조회
      */
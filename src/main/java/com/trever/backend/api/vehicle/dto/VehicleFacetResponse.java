@@ -0,0 +1,23 @@
+package com.trever.backend.api.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleFacetResponse {
+    private long totalCount;
+    private Map<String, Long> manufacturers;   // 제조사별
+    private Map<String, Long> carNames;        // 차명별
+    private Map<String, Long> models;          // 차모델별
+    private Map<String, Long> vehicleTypes;    // 차종별 (코드)
+    private Map<String, Long> fuelTypes;       // 연료별
+    private Map<Long, Long> priceBuckets;      // 가격 구간 하한별 (1000만원 단위)
+    private Map<Integer, Long> yearBuckets;    // 연식별
+}
@@ -16,9 +16,13 @@ import java.util.List;
 @AllArgsConstructor
 public class VehicleListResponse {
     private List<VehicleSummary> vehicles;
-    private int totalCount;
+    // 전체 건수 (키셋 페이지네이션은 첫 페이지에만, 이후 페이지는 null)
+    private Integer totalCount;
     private int pageNumber;
     private int pageSize;
+
+    // 키셋 페이지네이션 다음 페이지 커서 (마지막 페이지이거나 페이지 번호 방식이면 null)
+    private String nextCursor;
     
     @Data
     @Builder
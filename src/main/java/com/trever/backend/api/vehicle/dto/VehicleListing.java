@@ -0,0 +1,29 @@
+package com.trever.backend.api.vehicle.dto;
+
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.entity.VehicleType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 스냅샷에 보관하는 차량 목록용 불변 요약 (필터/집계 대상 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class VehicleListing {
+    private final Long id;
+    private final String manufacturer;
+    private final String carName;
+    private final String model;
+    private final VehicleType vehicleType;
+    private final String fuelType;
+    private final Long price;
+    private final Integer yearValue;
+    private final Integer mileage;
+    private final VehicleStatus vehicleStatus;
+    private final Character isAuction;
+    private final Long optionMask;
+    private final LocalDateTime createdAt;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,6 +35,9 @@ public class VehicleSearchRequest {
     // 차종 필터링
     private String vehicleType;     // 차종
 
+    // 옵션 필터링 (모든 옵션을 포함한 차량만)
+    private List<String> options;
+
     // 페이지네이션
     @Builder.Default
     private int page = 0;
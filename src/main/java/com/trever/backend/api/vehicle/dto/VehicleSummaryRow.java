@@ -0,0 +1,77 @@
+package com.trever.backend.api.vehicle.dto;
+
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.entity.VehicleType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 찜/최근 본 차량 목록용 프로젝션 (차량 컬럼 + 키셋 페이지네이션 기준값)
+ */
+@Getter
+@AllArgsConstructor
+public class VehicleSummaryRow {
+
+    // 키셋 기준: 찜/최근 본 차량 행의 id 와 정렬 시각
+    private final Long rowId;
+    private final LocalDateTime sortedAt;
+
+    private final Long id;
+    private final String carNumber;
+    private final String carName;
+    private final String manufacturer;
+    private final String model;
+    private final Integer yearValue;
+    private final Integer mileage;
+    private final String transmission;
+    private final String fuelType;
+    private final Long price;
+    private final VehicleStatus vehicleStatus;
+    private final Character isAuction;
+    private final Long auctionId;
+    private final String representativePhotoUrl;
+    private final Integer favoriteCount;
+    private final LocalDateTime createdAt;
+    private final VehicleType vehicleType;
+    private final Long optionMask;
+
+    /**
+     * 키셋 기준만 바꾼 사본 (아직 DB 에 없는 최근 본 차량 등)
+     */
+    public VehicleSummaryRow withSortKey(Long rowId, LocalDateTime sortedAt) {
+        return new VehicleSummaryRow(rowId, sortedAt, id, carNumber, carName, manufacturer, model, yearValue, mileage,
+                transmission, fuelType, price, vehicleStatus, isAuction, auctionId, representativePhotoUrl,
+                favoriteCount, createdAt, vehicleType, optionMask);
+    }
+
+    public VehicleListResponse.VehicleSummary toSummary(List<String> options, boolean isFavorite) {
+        // 메인 옵션 (최대 3개까지)
+        List<String> mainOptions = options.size() > 3 ? options.subList(0, 3) : options;
+
+        return VehicleListResponse.VehicleSummary.builder()
+                .id(id)
+                .vehicleTypeName(vehicleType != null ? vehicleType.getDisplayName() : "미정")
+                .mainOptions(mainOptions)
+                .carNumber(carNumber)
+                .carName(carName)
+                .manufacturer(manufacturer)
+                .model(model)
+                .year_value(yearValue)
+                .mileage(mileage)
+                .transmission(transmission)
+                .fuelType(fuelType)
+                .price(price)
+                .vehicleStatus(vehicleStatus.getDisplayName())
+                .isAuction(isAuction)
+                .auctionId(auctionId)
+                .representativePhotoUrl(representativePhotoUrl)
+                .favoriteCount(favoriteCount)
+                .createdAt(createdAt)
+                .totalOptionsCount(options.size())
+                .isFavorite(isFavorite)
+                .build();
+    }
+}
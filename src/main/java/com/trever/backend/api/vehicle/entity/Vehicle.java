@@ -14,7 +14,18 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "vehicles")
+@Table(
+        name = "vehicles",
+        indexes = {
+                // 목록/검색: 상태 + 경매 여부 + 최신순
+                @Index(name = "idx_vehicles_status_auction_created", columnList = "vehicle_status, is_auction, created_at"),
+                // 목록 (경매 여부 무관): 상태 + 최신순
+                @Index(name = "idx_vehicles_status_created", columnList = "vehicle_status, created_at"),
+                // 제조사/차명/모델별 차량 수 집계 (커버링 인덱스)
+                @Index(name = "idx_vehicles_status_maker_name_model", columnList = "vehicle_status, manufacturer, car_name, model"),
+                @Index(name = "idx_vehicles_car_number", columnList = "car_number")
+        }
+)
 public class Vehicle extends BaseTimeEntity {
     
     @Id
@@ -62,8 +73,14 @@ public class Vehicle extends BaseTimeEntity {
     
     private Long auctionId;
     
+    // 찜 수는 FavoriteCountAggregator 가 증감 UPDATE 로만 변경 (엔티티 수정 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private Integer favoriteCount = 0;
 
+    // 옵션 비트마스크 (옵션 id - 1 번째 비트), null 이면 아직 인코딩되지 않은 차량
+    @Column(name = "option_mask")
+    private Long optionMask;
+
     // 차종 필드 추가
     @Enumerated(EnumType.STRING)
     @Column(name = "vehicle_type")
@@ -93,14 +110,4 @@ public class Vehicle extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private User seller;
-
-    public void increaseFavoriteCount() {
-        this.favoriteCount++;
-    }
-
-    public void decreaseFavoriteCount() {
-        if (this.favoriteCount > 0) {
-            this.favoriteCount--;
-        }
-    }
 }
@@ -0,0 +1,15 @@
+package com.trever.backend.api.vehicle.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 차량 등록/상태 변경/삭제 시 발행되는 이벤트
+ * 커밋 이후 리스너가 차량 ID로 최신 상태를 다시 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VehicleChangedEvent {
+
+    private final Long vehicleId;
+}
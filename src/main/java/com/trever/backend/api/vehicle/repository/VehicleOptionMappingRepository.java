@@ -3,6 +3,7 @@ package com.trever.backend.api.vehicle.repository;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleOptionMapping;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +12,8 @@ import java.util.List;
 public interface VehicleOptionMappingRepository extends JpaRepository<VehicleOptionMapping, Long> {
     List<VehicleOptionMapping> findByVehicle(Vehicle vehicle);
     void deleteByVehicle(Vehicle vehicle);
+
+    // 옵션 비트마스크가 없는 차량의 (차량 ID, 옵션 ID) 목록 조회
+    @Query("SELECT m.vehicle.id, m.option.id FROM VehicleOptionMapping m WHERE m.vehicle.optionMask IS NULL")
+    List<Object[]> findOptionIdsOfUnmaskedVehicles();
 }
\ No newline at end of file
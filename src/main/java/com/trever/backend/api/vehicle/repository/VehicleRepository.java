@@ -1,9 +1,8 @@
 package com.trever.backend.api.vehicle.repository;
 
 import com.trever.backend.api.user.entity.User;
-import com.trever.backend.api.vehicle.dto.CarModelCountResponse;
-import com.trever.backend.api.vehicle.dto.CarNameCountResponse;
-import com.trever.backend.api.vehicle.dto.ManufacturerCountResponse;
+import com.trever.backend.api.vehicle.dto.VehicleListing;
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
 import com.trever.backend.api.vehicle.entity.Vehicle;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
 import org.springframework.data.domain.Page;
@@ -15,14 +14,30 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long>,VehicleRepositoryCustom {
 
+    String SUMMARY_SELECT = "SELECT new com.trever.backend.api.vehicle.dto.VehicleSummaryRow(v.id, v.createdAt, " +
+            "v.id, v.carNumber, v.carName, v.manufacturer, v.model, v.year_value, v.mileage, " +
+            "v.transmission, v.fuelType, v.price, v.vehicleStatus, v.isAuction, v.auctionId, v.representativePhotoUrl, " +
+            "v.favoriteCount, v.createdAt, v.vehicleType, v.optionMask) FROM Vehicle v ";
+
     @Modifying
     @Query("UPDATE Vehicle v SET v.vehicleStatus = :status WHERE v.id = :vehicleId")
     void updateVehicleStatus(@Param("vehicleId") Long vehicleId, @Param("status") VehicleStatus status);
 
+    // 옵션 비트마스크 갱신
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.optionMask = :optionMask WHERE v.id = :vehicleId")
+    void updateOptionMask(@Param("vehicleId") Long vehicleId, @Param("optionMask") Long optionMask);
+
+    // 옵션이 없는 차량의 비어 있는 비트마스크를 0으로 초기화
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.optionMask = 0 WHERE v.optionMask IS NULL")
+    int clearUnsetOptionMasks();
+
     // 키워드 검색 (차명, 제조사, 모델, 설명 포함)
     @Query("SELECT v FROM Vehicle v " +
             "WHERE LOWER(v.carName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -42,25 +57,10 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>,VehicleR
                                             @Param("isAuction") Character isAuction,
                                             Pageable pageable);
 
-    // 제조사별 차량 수 조회
-    @Query("SELECT new com.trever.backend.api.vehicle.dto.ManufacturerCountResponse(v.manufacturer, COUNT(v)) " +
-            "FROM Vehicle v WHERE v.vehicleStatus = :status GROUP BY v.manufacturer ORDER BY v.manufacturer")
-    List<ManufacturerCountResponse> countByManufacturer(@Param("status") VehicleStatus status);
-
-    // 특정 제조사의 차명별 차량 수 조회
-    @Query("SELECT new com.trever.backend.api.vehicle.dto.CarNameCountResponse(v.carName, COUNT(v)) " +
-            "FROM Vehicle v WHERE v.manufacturer = :manufacturer AND v.vehicleStatus = :status " +
-            "GROUP BY v.carName ORDER BY v.carName")
-    List<CarNameCountResponse> countByCarName(@Param("manufacturer") String manufacturer,
-                                              @Param("status") VehicleStatus status);
-
-    // 특정 제조사와 차명의 차모델별 차량 수 조회
-    @Query("SELECT new com.trever.backend.api.vehicle.dto.CarModelCountResponse(v.model, COUNT(v)) " +
-            "FROM Vehicle v WHERE v.manufacturer = :manufacturer AND v.carName = :carName AND v.vehicleStatus = :status " +
-            "GROUP BY v.model ORDER BY v.vehicleStatus")
-    List<CarModelCountResponse> countByCarModel(@Param("manufacturer") String manufacturer,
-                                                @Param("carName") String carName,
-                                                @Param("status") VehicleStatus status);
+    // 제조사/차명/차모델별 차량 수 조회 (자동완성 색인용)
+    @Query("SELECT v.manufacturer, v.carName, v.model, COUNT(v) FROM Vehicle v " +
+            "WHERE v.vehicleStatus = :status GROUP BY v.manufacturer, v.carName, v.model")
+    List<Object[]> countByManufacturerAndCarNameAndModel(@Param("status") VehicleStatus status);
 
     // VehicleRepository 인터페이스에 추가
     Page<Vehicle> findByVehicleStatusInAndIsAuction(List<VehicleStatus> statuses, char isAuction, Pageable pageable);
@@ -71,4 +71,40 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>,VehicleR
 
     //차량번호로 존재 여부 확인
     boolean existsByCarNumber(String carNumber);
+
+    // 상세 조회용: 차량 + 판매자 + 판매자 프로필 + 사진 한 번에 조회 (사진 수만큼 행 반복)
+    @Query("SELECT v, p FROM Vehicle v " +
+            "JOIN FETCH v.seller s " +
+            "LEFT JOIN FETCH v.photos " +
+            "LEFT JOIN UserProfile p ON p.user = s " +
+            "WHERE v.id = :vehicleId")
+    List<Object[]> findDetailById(@Param("vehicleId") Long vehicleId);
+
+    // 메모리 스냅샷용 차량 요약 조회
+    @Query("SELECT new com.trever.backend.api.vehicle.dto.VehicleListing(v.id, v.manufacturer, v.carName, v.model, " +
+            "v.vehicleType, v.fuelType, v.price, v.year_value, v.mileage, v.vehicleStatus, v.isAuction, v.optionMask, v.createdAt) " +
+            "FROM Vehicle v WHERE v.vehicleStatus IN :statuses")
+    List<VehicleListing> findListingsByVehicleStatusIn(@Param("statuses") List<VehicleStatus> statuses);
+
+    @Query("SELECT new com.trever.backend.api.vehicle.dto.VehicleListing(v.id, v.manufacturer, v.carName, v.model, " +
+            "v.vehicleType, v.fuelType, v.price, v.year_value, v.mileage, v.vehicleStatus, v.isAuction, v.optionMask, v.createdAt) " +
+            "FROM Vehicle v WHERE v.id = :vehicleId")
+    Optional<VehicleListing> findListingById(@Param("vehicleId") Long vehicleId);
+
+    // 목록 페이지 캐시(VehicleListingPageCache)용 프로젝션 조회
+    @Query(SUMMARY_SELECT + "WHERE v.vehicleStatus IN :statuses")
+    List<VehicleSummaryRow> findSummaryRowsByVehicleStatusIn(@Param("statuses") List<VehicleStatus> statuses,
+                                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE v.vehicleStatus IN :statuses AND v.isAuction = :isAuction")
+    List<VehicleSummaryRow> findSummaryRowsByVehicleStatusInAndIsAuction(@Param("statuses") List<VehicleStatus> statuses,
+                                                                         @Param("isAuction") Character isAuction,
+                                                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE v.id = :vehicleId")
+    Optional<VehicleSummaryRow> findSummaryRowById(@Param("vehicleId") Long vehicleId);
+
+    long countByVehicleStatusIn(List<VehicleStatus> statuses);
+
+    long countByVehicleStatusInAndIsAuction(List<VehicleStatus> statuses, Character isAuction);
 }
\ No newline at end of file
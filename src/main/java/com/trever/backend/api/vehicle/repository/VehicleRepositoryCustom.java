@@ -6,5 +6,5 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface VehicleRepositoryCustom {
-    Page<Vehicle> searchByFilter(VehicleSearchRequest request, Pageable pageable);
+    Page<Vehicle> searchByFilter(VehicleSearchRequest request, long requiredOptionMask, Pageable pageable);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.trever.backend.api.vehicle.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.trever.backend.api.vehicle.dto.VehicleSearchRequest;
@@ -26,7 +27,7 @@ public class VehicleRepositoryImpl implements VehicleRepositoryCustom {
     }
 
     @Override
-    public Page<Vehicle> searchByFilter(VehicleSearchRequest request, Pageable pageable) {
+    public Page<Vehicle> searchByFilter(VehicleSearchRequest request, long requiredOptionMask, Pageable pageable) {
         QVehicle vehicle = QVehicle.vehicle;
 
         // 기본 조건: 차량 상태가 ACTIVE인 것만 조회
@@ -83,6 +84,12 @@ public class VehicleRepositoryImpl implements VehicleRepositoryCustom {
             builder.and(vehicle.vehicleType.eq(VehicleType.valueOf(request.getVehicleType())));
         }
 
+        // 7. 옵션 필터링 (비트마스크 AND)
+        if (requiredOptionMask != 0L) {
+            builder.and(Expressions.numberTemplate(Long.class, "function('bitand', {0}, {1})",
+                    vehicle.optionMask, requiredOptionMask).eq(requiredOptionMask));
+        }
+
         // 조회 쿼리 생성
         JPAQuery<Vehicle> query = queryFactory
                 .selectFrom(vehicle)
@@ -0,0 +1,104 @@
+package com.trever.backend.api.vehicle.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성용 불변 접두사 트라이
+ * 각 노드에 해당 접두사로 시작하는 상위 검색어(가중치 내림차순)를 미리 계산해 두어 조회는 접두사 길이만큼만 탐색한다.
+ */
+public final class AutocompleteIndex {
+
+    private final Node root;
+    private final int size;
+
+    private AutocompleteIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param weights 표시 문자열 → 가중치
+     * @param limit   노드별로 보관할 최대 추천어 수
+     */
+    public static AutocompleteIndex of(Map<String, Long> weights, int limit) {
+        // 정규화 키가 같으면 가중치가 큰 표시 문자열만 남김
+        Map<String, Map.Entry<String, Long>> terms = new HashMap<>();
+        weights.forEach((display, weight) -> {
+            String key = normalize(display);
+            if (key.isEmpty()) return;
+            terms.merge(key, Map.entry(display.trim(), weight),
+                    (a, b) -> a.getValue() >= b.getValue() ? a : b);
+        });
+
+        Node root = new Node();
+        terms.forEach((key, term) -> {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            node.term = term;
+        });
+        root.collect(limit);
+
+        return new AutocompleteIndex(root, terms.size());
+    }
+
+    /**
+     * 접두사로 시작하는 추천어 (가중치 내림차순)
+     */
+    public List<String> suggest(String prefix) {
+        String key = normalize(prefix);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node != null ? node.suggestions : List.of();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 비교용 정규화: 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+
+        private static final Comparator<Map.Entry<String, Long>> ORDER =
+                Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey());
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private Map.Entry<String, Long> term;
+        private List<String> suggestions = List.of();
+
+        // 하위 노드의 상위 추천어를 병합하여 이 노드의 상위 추천어 계산 (후위 순회)
+        private List<Map.Entry<String, Long>> collect(int limit) {
+            List<Map.Entry<String, Long>> candidates = new ArrayList<>();
+            if (term != null) {
+                candidates.add(term);
+            }
+            for (Node child : children.values()) {
+                candidates.addAll(child.collect(limit));
+            }
+            candidates.sort(ORDER);
+            List<Map.Entry<String, Long>> top = candidates.size() > limit
+                    ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+
+            suggestions = top.stream().map(Map.Entry::getKey).toList();
+            return top;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.repository.VehicleRepository;
+import com.trever.backend.basiccar.service.CarModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차량 검색어 자동완성
+ * 기본 차량 정보(제조사/차명/모델명)와 판매중인 차량 이름으로 만든 트라이에 인기 검색어를 더해 메모리에서 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    // 응답 최대 추천어 수
+    private static final int MAX_SUGGESTIONS = 10;
+
+    private final CarModelService carModelService;
+    private final VehicleRepository vehicleRepository;
+    private final PopularKeywordTracker popularKeywordTracker;
+
+    private volatile AutocompleteIndex index = AutocompleteIndex.of(Map.of(), MAX_SUGGESTIONS);
+
+    /**
+     * 애플리케이션 시작 시 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 색인 재생성 (신규 등록 차량/기본 차량 정보 반영, 10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        Map<String, Long> weights = new HashMap<>();
+
+        // 기본 차량 정보 (가중치 0)
+        for (String manufacturer : carModelService.getAllManufacturers()) {
+            weights.putIfAbsent(manufacturer, 0L);
+            for (String carName : carModelService.getCarNamesByManufacturer(manufacturer)) {
+                weights.putIfAbsent(carName, 0L);
+                weights.putIfAbsent(manufacturer + " " + carName, 0L);
+                for (String modelName : carModelService.getCarModelsByManufacturerAndCarName(manufacturer, carName)) {
+                    weights.putIfAbsent(modelName, 0L);
+                }
+            }
+        }
+
+        // 판매중/경매 차량 이름 (매물 수를 가중치로)
+        for (VehicleStatus status : VehicleListingSnapshot.LISTED_STATUSES) {
+            for (Object[] row : vehicleRepository.countByManufacturerAndCarNameAndModel(status)) {
+                String manufacturer = (String) row[0];
+                String carName = (String) row[1];
+                String model = (String) row[2];
+                long count = (Long) row[3];
+
+                addWeight(weights, manufacturer, count);
+                addWeight(weights, carName, count);
+                addWeight(weights, model, count);
+                if (manufacturer != null && carName != null) {
+                    addWeight(weights, manufacturer + " " + carName, count);
+                }
+            }
+        }
+
+        this.index = AutocompleteIndex.of(weights, MAX_SUGGESTIONS);
+        log.debug("자동완성 색인 생성 완료: {}건", index.size());
+    }
+
+    /**
+     * 접두사 자동완성: 접두사와 일치하는 인기 검색어를 먼저, 나머지는 매물 수 순으로 채운다.
+     * 접두사가 비어 있으면 인기 검색어를 반환
+     */
+    public List<String> autocomplete(String prefix) {
+        String key = AutocompleteIndex.normalize(prefix);
+        if (key.isEmpty()) {
+            return popularKeywordTracker.top(MAX_SUGGESTIONS);
+        }
+
+        // 정규화 키 → 표시 문자열
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String keyword : popularKeywordTracker.top(MAX_SUGGESTIONS * 3)) {
+            if (keyword.startsWith(key)) {
+                result.put(keyword, keyword);
+                if (result.size() >= MAX_SUGGESTIONS / 2) break;
+            }
+        }
+        for (String suggestion : index.suggest(key)) {
+            if (result.size() >= MAX_SUGGESTIONS) break;
+            result.putIfAbsent(AutocompleteIndex.normalize(suggestion), suggestion);
+        }
+        return List.copyOf(result.values());
+    }
+
+    /**
+     * 인기 검색어 조회
+     */
+    public List<String> getPopularKeywords() {
+        return popularKeywordTracker.top(MAX_SUGGESTIONS);
+    }
+
+    private static void addWeight(Map<String, Long> weights, String term, long count) {
+        if (term != null && !term.isBlank()) {
+            weights.merge(term, count, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.trever.backend.api.vehicle.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 검색어 집계 (Count-Min Sketch + Space-Saving)
+ * 모든 검색어의 빈도는 고정 크기 스케치로 근사하고, 상위 후보 CAPACITY 개만 따로 추적한다.
+ * 1시간마다 모든 카운트를 절반으로 줄여 최근 검색이 더 큰 비중을 갖도록 한다.
+ */
+@Component
+public class PopularKeywordTracker {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1 << 12;
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    // 추적하는 상위 후보 수
+    private static final int CAPACITY = 100;
+
+    private final long[][] sketch = new long[DEPTH][WIDTH];
+    private final Map<String, Long> candidates = new HashMap<>();
+
+    /**
+     * 검색어 1회 기록
+     */
+    public synchronized void record(String keyword) {
+        String key = AutocompleteIndex.normalize(keyword);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        // 스케치 증가 후 추정 빈도 (행별 최소값)
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int col = index(hash, row);
+            estimate = Math.min(estimate, ++sketch[row][col]);
+        }
+
+        if (candidates.containsKey(key) || candidates.size() < CAPACITY) {
+            candidates.put(key, estimate);
+            return;
+        }
+
+        // 후보가 가득 차면 가장 적은 후보보다 클 때만 교체
+        Map.Entry<String, Long> min = null;
+        for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+            if (min == null || entry.getValue() < min.getValue()) {
+                min = entry;
+            }
+        }
+        if (min != null && estimate > min.getValue()) {
+            candidates.remove(min.getKey());
+            candidates.put(key, estimate);
+        }
+    }
+
+    /**
+     * 인기 검색어 상위 limit 개 (빈도 내림차순)
+     */
+    public synchronized List<String> top(int limit) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(candidates.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        return entries.stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 시간 감쇠 (1시간마다 모든 카운트 절반)
+     */
+    @Scheduled(fixedRate = 3_600_000, initialDelay = 3_600_000)
+    public synchronized void decay() {
+        for (long[] row : sketch) {
+            for (int col = 0; col < WIDTH; col++) {
+                row[col] >>= 1;
+            }
+        }
+        candidates.replaceAll((key, count) -> count >> 1);
+        candidates.values().removeIf(count -> count == 0);
+    }
+
+    private static int index(int hash, int row) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 16;
+        return h & (WIDTH - 1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.dto.VehicleListing;
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 판매중(ACTIVE) 차량 수 계층 집계: 제조사 → 차명 → 차모델
+ * VehicleListingSnapshot 이 스냅샷을 교체할 때 같은 스냅샷으로 다시 만들고, 이후 차량 변경은 스냅샷과 같은
+ * 잠금 안에서 변경 전/후 상태로 증감한다. 트리는 항상 스냅샷과 같은 상태를 세므로 증감이 두 번 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class VehicleCountTree {
+
+    private volatile Node root = new Node();
+
+    // 증감 반영과 트리 교체 직렬화
+    private final Object lock = new Object();
+
+    /**
+     * 스냅샷 전체로 재구성 (스냅샷 교체 시 호출)
+     */
+    public void rebuild(Collection<VehicleListing> listings) {
+        Node rebuilt = new Node();
+        for (VehicleListing listing : listings) {
+            applyDelta(rebuilt, null, listing);
+        }
+
+        long before;
+        synchronized (lock) {
+            before = root.count.get();
+            this.root = rebuilt;
+        }
+        if (before != rebuilt.count.get()) {
+            log.info("차량 수 집계 보정: {} → {}", before, rebuilt.count.get());
+        }
+    }
+
+    /**
+     * 차량 변경 전/후 상태로 증감 반영
+     */
+    public void applyDelta(VehicleListing previous, VehicleListing current) {
+        synchronized (lock) {
+            applyDelta(root, previous, current);
+        }
+    }
+
+    private static void applyDelta(Node root, VehicleListing previous, VehicleListing current) {
+        if (isCounted(previous)) {
+            add(root, previous.getManufacturer(), previous.getCarName(), previous.getModel(), -1);
+        }
+        if (isCounted(current)) {
+            add(root, current.getManufacturer(), current.getCarName(), current.getModel(), 1);
+        }
+    }
+
+    public long count(String manufacturer) {
+        Node node = root.children.get(key(manufacturer));
+        return node != null ? node.count.get() : 0L;
+    }
+
+    public long count(String manufacturer, String carName) {
+        Node node = root.children.get(key(manufacturer));
+        node = node != null ? node.children.get(key(carName)) : null;
+        return node != null ? node.count.get() : 0L;
+    }
+
+    public long count(String manufacturer, String carName, String model) {
+        Node node = root.children.get(key(manufacturer));
+        node = node != null ? node.children.get(key(carName)) : null;
+        node = node != null ? node.children.get(key(model)) : null;
+        return node != null ? node.count.get() : 0L;
+    }
+
+    private static boolean isCounted(VehicleListing listing) {
+        return listing != null && listing.getVehicleStatus() == VehicleStatus.ACTIVE;
+    }
+
+    private static void add(Node root, String manufacturer, String carName, String model, long delta) {
+        Node manufacturerNode = root.child(key(manufacturer));
+        Node carNameNode = manufacturerNode.child(key(carName));
+        Node modelNode = carNameNode.child(key(model));
+
+        root.count.addAndGet(delta);
+        manufacturerNode.count.addAndGet(delta);
+        carNameNode.count.addAndGet(delta);
+        modelNode.count.addAndGet(delta);
+    }
+
+    // ConcurrentHashMap 은 null 키를 허용하지 않으므로 빈 문자열로 대체
+    private static String key(String value) {
+        return value != null ? value : "";
+    }
+
+    private static final class Node {
+        private final AtomicLong count = new AtomicLong();
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+        private Node child(String key) {
+            return children.computeIfAbsent(key, k -> new Node());
+        }
+    }
+}
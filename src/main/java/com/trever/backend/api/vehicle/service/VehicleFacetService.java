@@ -0,0 +1,131 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.dto.VehicleFacetResponse;
+import com.trever.backend.api.vehicle.dto.VehicleListing;
+import com.trever.backend.api.vehicle.dto.VehicleSearchRequest;
+import com.trever.backend.api.vehicle.entity.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 차량 필터 조건별 집계 (메모리 스냅샷 1회 순회)
+ */
+@Service
+@RequiredArgsConstructor
+public class VehicleFacetService {
+
+    // 가격 구간 단위 (1000만원)
+    private static final long PRICE_BUCKET_SIZE = 10_000_000L;
+
+    private static final String UNKNOWN = "미정";
+
+    private final VehicleListingSnapshot vehicleListingSnapshot;
+    private final VehicleOptionService vehicleOptionService;
+
+    /**
+     * 검색 조건에 해당하는 차량의 제조사/차명/모델/차종/연료/가격/연식별 개수 조회
+     */
+    public VehicleFacetResponse getFacets(VehicleSearchRequest request) {
+        long requiredOptionMask = vehicleOptionService.toRequiredOptionMask(request.getOptions());
+        VehicleType vehicleType = StringUtils.hasText(request.getVehicleType())
+                ? VehicleType.valueOf(request.getVehicleType()) : null;
+        String keyword = StringUtils.hasText(request.getKeyword())
+                ? request.getKeyword().toLowerCase() : null;
+
+        Map<String, Long> manufacturers = new TreeMap<>();
+        Map<String, Long> carNames = new TreeMap<>();
+        Map<String, Long> models = new TreeMap<>();
+        Map<String, Long> vehicleTypes = new TreeMap<>();
+        Map<String, Long> fuelTypes = new TreeMap<>();
+        Map<Long, Long> priceBuckets = new TreeMap<>();
+        Map<Integer, Long> yearBuckets = new TreeMap<>();
+        long total = 0;
+
+        for (VehicleListing listing : vehicleListingSnapshot.getListings()) {
+            if (!matches(listing, request, keyword, vehicleType, requiredOptionMask)) {
+                continue;
+            }
+            total++;
+
+            increment(manufacturers, orUnknown(listing.getManufacturer()));
+            increment(carNames, orUnknown(listing.getCarName()));
+            increment(models, orUnknown(listing.getModel()));
+            increment(vehicleTypes, listing.getVehicleType() != null ? listing.getVehicleType().name() : UNKNOWN);
+            increment(fuelTypes, orUnknown(listing.getFuelType()));
+            if (listing.getPrice() != null) {
+                increment(priceBuckets, listing.getPrice() / PRICE_BUCKET_SIZE * PRICE_BUCKET_SIZE);
+            }
+            if (listing.getYearValue() != null) {
+                increment(yearBuckets, listing.getYearValue());
+            }
+        }
+
+        return VehicleFacetResponse.builder()
+                .totalCount(total)
+                .manufacturers(manufacturers)
+                .carNames(carNames)
+                .models(models)
+                .vehicleTypes(vehicleTypes)
+                .fuelTypes(fuelTypes)
+                .priceBuckets(priceBuckets)
+                .yearBuckets(yearBuckets)
+                .build();
+    }
+
+    // VehicleRepositoryImpl.searchByFilter 와 동일한 조건
+    private boolean matches(VehicleListing listing, VehicleSearchRequest request, String keyword,
+                            VehicleType vehicleType, long requiredOptionMask) {
+        if (keyword != null && (listing.getCarName() == null
+                || !listing.getCarName().toLowerCase().contains(keyword))) {
+            return false;
+        }
+        if (StringUtils.hasText(request.getManufacturer()) && !request.getManufacturer().equals(listing.getManufacturer())) {
+            return false;
+        }
+        if (StringUtils.hasText(request.getCarName()) && !request.getCarName().equals(listing.getCarName())) {
+            return false;
+        }
+        if (StringUtils.hasText(request.getCarModel()) && !request.getCarModel().equals(listing.getModel())) {
+            return false;
+        }
+        if (!inRange(listing.getYearValue(), request.getYearStart(), request.getYearEnd())) {
+            return false;
+        }
+        if (!inRange(listing.getMileage(), request.getMileageStart(), request.getMileageEnd())) {
+            return false;
+        }
+        if (!inRange(listing.getPrice(), request.getPriceStart(), request.getPriceEnd())) {
+            return false;
+        }
+        if (vehicleType != null && vehicleType != listing.getVehicleType()) {
+            return false;
+        }
+        if (requiredOptionMask != 0L) {
+            long mask = listing.getOptionMask() != null ? listing.getOptionMask() : 0L;
+            return (mask & requiredOptionMask) == requiredOptionMask;
+        }
+        return true;
+    }
+
+    private static <T extends Comparable<T>> boolean inRange(T value, T start, T end) {
+        if (start == null && end == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return (start == null || value.compareTo(start) >= 0) && (end == null || value.compareTo(end) <= 0);
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key) {
+        counts.merge(key, 1L, Long::sum);
+    }
+
+    private static String orUnknown(String value) {
+        return StringUtils.hasText(value) ? value : UNKNOWN;
+    }
+}
@@ -0,0 +1,232 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.dto.VehicleSummaryRow;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
+import com.trever.backend.api.vehicle.repository.VehicleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차량 목록(GET /api/vehicles) 앞쪽 페이지 캐시
+ * (경매 여부, 정렬 기준)별로 상위 WINDOW_SIZE 개 차량을 불변 배열로 보관하고, 범위 안의 페이지는 DB 없이 응답한다.
+ * 최신순(createdAt) 목록은 VehicleChangedEvent 로 해당 차량만 갱신하고, 그 외 정렬은 무효화 후 다음 조회 시 다시 로드한다.
+ * 찜 여부는 사용자마다 다르므로 캐시에는 넣지 않고 응답 시점에 덧씌운다.
+ * 로드 중 차량 변경이 커밋되면 로드 결과는 그 변경을 놓쳤을 수 있으므로 이번 요청에만 쓰고 보관하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleListingPageCache {
+
+    // 정렬 기준별로 보관하는 상위 차량 수
+    private static final int WINDOW_SIZE = 200;
+
+    private static final String DEFAULT_SORT = "createdAt";
+
+    private static final Comparator<VehicleSummaryRow> NEWEST_FIRST =
+            Comparator.comparing(VehicleSummaryRow::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(VehicleSummaryRow::getId, Comparator.reverseOrder());
+
+    private final VehicleRepository vehicleRepository;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    // 차량 변경 횟수 (로드 시작 시 값과 다르면 로드 결과를 보관하지 않음), 증가와 보관은 lock 으로 직렬화
+    private final AtomicLong changes = new AtomicLong();
+    private final Object lock = new Object();
+
+    /**
+     * 캐시 범위 안의 페이지 조회 (범위를 벗어나면 null → 호출 측에서 DB 조회)
+     */
+    public PageSlice getPage(int page, int size, String sortBy, Boolean isAuction) {
+        if (page < 0 || size <= 0) {
+            return null;
+        }
+
+        Key key = new Key(isAuction, sortBy != null ? sortBy : DEFAULT_SORT);
+        Window window = windows.get(key);
+        if (window == null) {
+            window = loadAndStore(key);
+        }
+
+        long from = (long) page * size;
+        long to = from + size;
+        VehicleSummaryRow[] rows = window.rows;
+        if (to > rows.length && !window.isComplete()) {
+            return null;
+        }
+
+        int start = (int) Math.min(from, rows.length);
+        int end = (int) Math.min(to, rows.length);
+        return new PageSlice(Arrays.asList(rows).subList(start, end), window.totalCount);
+    }
+
+    /**
+     * 차량 변경 커밋 후 반영
+     */
+    // 응답 캐시 무효화(ResponseCacheStore, 가장 나중)보다 먼저 반영해야 무효화 직후 재생성된 응답이 이전 상태를 담지 않는다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        // 진행 중인 로드가 결과를 보관하지 않도록 먼저 표시 (이후 보관된 창은 아래에서 갱신됨)
+        synchronized (lock) {
+            changes.incrementAndGet();
+        }
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        Long vehicleId = event.getVehicleId();
+        VehicleSummaryRow current = vehicleRepository.findSummaryRowById(vehicleId)
+                .filter(row -> VehicleListingSnapshot.LISTED_STATUSES.contains(row.getVehicleStatus()))
+                .orElse(null);
+
+        for (Key key : new ArrayList<>(windows.keySet())) {
+            if (!DEFAULT_SORT.equals(key.sortBy)) {
+                // 최신순 외 정렬은 위치 계산 대신 다시 로드
+                windows.remove(key);
+                continue;
+            }
+
+            VehicleSummaryRow row = (current != null && key.matches(current)) ? current : null;
+            long totalCount = count(key);
+            windows.computeIfPresent(key, (k, window) -> window.apply(vehicleId, row, totalCount));
+        }
+    }
+
+    /**
+     * 찜 수 등 이벤트 없이 바뀌는 값 반영을 위해 주기적으로 전체 무효화 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void clear() {
+        windows.clear();
+    }
+
+    private Window loadAndStore(Key key) {
+        long version = changes.get();
+        Window loaded = load(key);
+        synchronized (lock) {
+            if (changes.get() != version) {
+                return loaded;
+            }
+            Window existing = windows.putIfAbsent(key, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private Window load(Key key) {
+        PageRequest pageable = PageRequest.of(0, WINDOW_SIZE, Sort.by(Sort.Direction.DESC, key.sortBy));
+        List<VehicleSummaryRow> rows = (key.isAuction == null)
+                ? vehicleRepository.findSummaryRowsByVehicleStatusIn(VehicleListingSnapshot.LISTED_STATUSES, pageable)
+                : vehicleRepository.findSummaryRowsByVehicleStatusInAndIsAuction(
+                        VehicleListingSnapshot.LISTED_STATUSES, key.auctionFlag(), pageable);
+
+        log.debug("차량 목록 캐시 로드: isAuction={}, sortBy={}, {}건", key.isAuction, key.sortBy, rows.size());
+        return new Window(rows.toArray(new VehicleSummaryRow[0]), count(key));
+    }
+
+    private long count(Key key) {
+        return (key.isAuction == null)
+                ? vehicleRepository.countByVehicleStatusIn(VehicleListingSnapshot.LISTED_STATUSES)
+                : vehicleRepository.countByVehicleStatusInAndIsAuction(
+                        VehicleListingSnapshot.LISTED_STATUSES, key.auctionFlag());
+    }
+
+    /**
+     * 캐시된 페이지 (행 + 전체 개수)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PageSlice {
+        private final List<VehicleSummaryRow> rows;
+        private final long totalCount;
+    }
+
+    private static final class Key {
+        private final Boolean isAuction;
+        private final String sortBy;
+
+        private Key(Boolean isAuction, String sortBy) {
+            this.isAuction = isAuction;
+            this.sortBy = sortBy;
+        }
+
+        private Character auctionFlag() {
+            return Boolean.TRUE.equals(isAuction) ? 'Y' : 'N';
+        }
+
+        private boolean matches(VehicleSummaryRow row) {
+            return isAuction == null || auctionFlag().equals(row.getIsAuction());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(isAuction, other.isAuction) && sortBy.equals(other.sortBy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isAuction, sortBy);
+        }
+    }
+
+    // 최신순 상위 차량 (교체 시 새 배열을 만들어 읽기는 잠금 없음)
+    private static final class Window {
+        private final VehicleSummaryRow[] rows;
+        private final long totalCount;
+
+        private Window(VehicleSummaryRow[] rows, long totalCount) {
+            this.rows = rows;
+            this.totalCount = totalCount;
+        }
+
+        // 전체 차량이 모두 범위 안에 있는지
+        private boolean isComplete() {
+            return totalCount <= rows.length;
+        }
+
+        private Window apply(Long vehicleId, VehicleSummaryRow current, long totalCount) {
+            List<VehicleSummaryRow> updated = new ArrayList<>(rows.length + 1);
+            for (VehicleSummaryRow row : rows) {
+                if (!row.getId().equals(vehicleId)) {
+                    updated.add(row);
+                }
+            }
+
+            if (current != null) {
+                int position = 0;
+                while (position < updated.size() && NEWEST_FIRST.compare(updated.get(position), current) < 0) {
+                    position++;
+                }
+                // 범위 밖(더 오래된 차량)이면 범위가 전체를 포함할 때만 추가
+                if (position < updated.size() || isComplete()) {
+                    updated.add(position, current);
+                }
+            }
+
+            if (updated.size() > WINDOW_SIZE) {
+                updated = updated.subList(0, WINDOW_SIZE);
+            }
+            return new Window(updated.toArray(new VehicleSummaryRow[0]), totalCount);
+        }
+    }
+}
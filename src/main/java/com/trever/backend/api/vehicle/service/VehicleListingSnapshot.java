@@ -0,0 +1,134 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.dto.VehicleListing;
+import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
+import com.trever.backend.api.vehicle.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 판매중/경매 차량의 메모리 스냅샷
+ * 시작 시 전체 로드 후 VehicleChangedEvent 로 차량 단위 갱신, 주기적으로 전체 재로드한다.
+ * 재로드 중 들어온 차량 변경은 기록해 두었다가 새 스냅샷에 다시 반영한 뒤 교체한다(차량 단위 교체라 멱등).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleListingSnapshot {
+
+    // 스냅샷에 포함되는 차량 상태 (목록/검색 API와 동일)
+    static final List<VehicleStatus> LISTED_STATUSES = List.of(VehicleStatus.ACTIVE, VehicleStatus.AUCTIONS);
+
+    private final VehicleRepository vehicleRepository;
+    private final VehicleCountTree vehicleCountTree;
+
+    private volatile Map<Long, VehicleListing> listings = new ConcurrentHashMap<>();
+
+    // 차량 단위 갱신과 스냅샷 교체 직렬화
+    private final Object lock = new Object();
+
+    // 재로드 중 들어온 차량 변경 (차량 id → 최신 상태, 목록에서 빠진 차량은 null), 재로드 중이 아니면 null, lock 보호
+    private Map<Long, VehicleListing> changedDuringReload;
+
+    // 재로드끼리 겹치지 않도록 (DB 조회 동안 잡고 있으므로 모니터 대신 ReentrantLock)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * 애플리케이션 시작 시 전체 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적 전체 재로드 (누락된 이벤트 보정, 10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // 조회 전에 먼저 등록해야 조회와 커밋 사이의 변경도 기록된다
+            synchronized (lock) {
+                changedDuringReload = new HashMap<>();
+            }
+
+            Map<Long, VehicleListing> loaded = new ConcurrentHashMap<>();
+            try {
+                for (VehicleListing listing : vehicleRepository.findListingsByVehicleStatusIn(LISTED_STATUSES)) {
+                    loaded.put(listing.getId(), listing);
+                }
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    changedDuringReload = null;
+                }
+                throw e;
+            }
+
+            synchronized (lock) {
+                changedDuringReload.forEach((vehicleId, listing) -> {
+                    if (listing == null) {
+                        loaded.remove(vehicleId);
+                    } else {
+                        loaded.put(vehicleId, listing);
+                    }
+                });
+                changedDuringReload = null;
+                this.listings = loaded;
+
+                // 설치한 스냅샷과 같은 상태로 차량 수 트리 재구성 (이후 증감도 이 잠금 안에서 반영)
+                vehicleCountTree.rebuild(loaded.values());
+            }
+            log.debug("차량 스냅샷 로드 완료: {}건", loaded.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 차량 변경 커밋 후 해당 차량만 다시 조회하여 반영
+     */
+    // 응답 캐시 무효화(ResponseCacheStore, 가장 나중)보다 먼저 반영해야 무효화 직후 재생성된 응답이 이전 상태를 담지 않는다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        Long vehicleId = event.getVehicleId();
+        VehicleListing current = vehicleRepository.findListingById(vehicleId)
+                .filter(listing -> LISTED_STATUSES.contains(listing.getVehicleStatus()))
+                .orElse(null);
+
+        synchronized (lock) {
+            VehicleListing previous = (current == null)
+                    ? listings.remove(vehicleId)
+                    : listings.put(vehicleId, current);
+            if (changedDuringReload != null) {
+                changedDuringReload.put(vehicleId, current);
+            }
+
+            vehicleCountTree.applyDelta(previous, current);
+        }
+    }
+
+    public Collection<VehicleListing> getListings() {
+        return listings.values();
+    }
+
+    public int size() {
+        return listings.size();
+    }
+}
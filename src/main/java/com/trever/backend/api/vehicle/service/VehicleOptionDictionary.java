@@ -0,0 +1,104 @@
+package com.trever.backend.api.vehicle.service;
+
+import com.trever.backend.api.vehicle.entity.VehicleOption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차량 옵션 id ↔ 이름 불변 사전
+ * 옵션 id - 1 을 비트 위치로 사용하여 차량별 옵션을 long 비트마스크로 인코딩한다.
+ */
+public final class VehicleOptionDictionary {
+
+    private static final int MAX_OPTIONS = Long.SIZE;
+
+    private final Map<String, Long> idsByName;
+    private final String[] namesByBit;
+    private final List<String> names;
+
+    private VehicleOptionDictionary(Map<String, Long> idsByName, String[] namesByBit, List<String> names) {
+        this.idsByName = idsByName;
+        this.namesByBit = namesByBit;
+        this.names = names;
+    }
+
+    public static VehicleOptionDictionary of(Collection<VehicleOption> options) {
+        List<VehicleOption> sorted = new ArrayList<>(options);
+        sorted.sort(Comparator.comparing(VehicleOption::getId));
+
+        Map<String, Long> idsByName = new HashMap<>();
+        String[] namesByBit = new String[MAX_OPTIONS];
+        List<String> names = new ArrayList<>(sorted.size());
+
+        for (VehicleOption option : sorted) {
+            long id = option.getId();
+            if (id < 1 || id > MAX_OPTIONS) {
+                throw new IllegalStateException("비트마스크로 표현할 수 없는 옵션 id 입니다: " + id);
+            }
+            String name = option.getName().intern();
+            idsByName.put(name, id);
+            namesByBit[(int) (id - 1)] = name;
+            names.add(name);
+        }
+
+        return new VehicleOptionDictionary(
+                Collections.unmodifiableMap(idsByName),
+                namesByBit,
+                Collections.unmodifiableList(names));
+    }
+
+    public Long getId(String name) {
+        return idsByName.get(name);
+    }
+
+    public boolean contains(String name) {
+        return idsByName.containsKey(name);
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * 옵션 이름 목록을 비트마스크로 변환 (사전에 없는 이름은 무시)
+     */
+    public long encode(Collection<String> optionNames) {
+        long mask = 0L;
+        if (optionNames == null) {
+            return mask;
+        }
+        for (String name : optionNames) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                mask |= 1L << (id - 1);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 옵션 이름 목록으로 변환 (옵션 id 순)
+     */
+    public List<String> decode(long mask) {
+        if (mask == 0L) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(Long.bitCount(mask));
+        long remaining = mask;
+        while (remaining != 0L) {
+            int bit = Long.numberOfTrailingZeros(remaining);
+            String name = namesByBit[bit];
+            if (name != null) {
+                result.add(name);
+            }
+            remaining &= remaining - 1;
+        }
+        return result;
+    }
+}
@@ -5,28 +5,41 @@ import com.trever.backend.api.vehicle.entity.VehicleOption;
 import com.trever.backend.api.vehicle.entity.VehicleOptionMapping;
 import com.trever.backend.api.vehicle.repository.VehicleOptionMappingRepository;
 import com.trever.backend.api.vehicle.repository.VehicleOptionRepository;
+import com.trever.backend.api.vehicle.repository.VehicleRepository;
+import com.trever.backend.common.exception.BadRequestException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VehicleOptionService {
 
     private final VehicleOptionRepository optionRepository;
     private final VehicleOptionMappingRepository optionMappingRepository;
+    private final VehicleRepository vehicleRepository;
 
     // 기본 옵션 목록
     private static final List<String> DEFAULT_OPTIONS = Arrays.asList(
             "열선시트", "통풍시트", "썬루프", "열선핸들", "내비게이션", "전동시트", "어라운드뷰", "전동트렁크"
     );
 
+    // 옵션 사전 (시작 시 1회 로드)
+    private volatile VehicleOptionDictionary dictionary;
+
     /**
      * 애플리케이션 시작 시 기본 옵션 데이터 초기화
      */
@@ -34,17 +47,45 @@ public class VehicleOptionService {
     @Transactional
     public void initializeOptions() {
         // 이미 옵션 데이터가 있는지 확인
-        if (optionRepository.count() > 0) {
-            return;
+        if (optionRepository.count() == 0) {
+            // 기본 옵션 생성
+            DEFAULT_OPTIONS.forEach(optionName -> {
+                VehicleOption option = VehicleOption.builder()
+                        .name(optionName)
+                        .build();
+                optionRepository.save(option);
+            });
         }
 
-        // 기본 옵션 생성
-        DEFAULT_OPTIONS.forEach(optionName -> {
-            VehicleOption option = VehicleOption.builder()
-                    .name(optionName)
-                    .build();
-            optionRepository.save(option);
-        });
+        reloadDictionary();
+    }
+
+    /**
+     * 옵션 사전 다시 로드
+     */
+    public void reloadDictionary() {
+        this.dictionary = VehicleOptionDictionary.of(optionRepository.findAll());
+    }
+
+    /**
+     * 비트마스크가 없는 기존 차량의 옵션 매핑을 비트마스크로 변환
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOptionMasks() {
+        Map<Long, Long> masks = new HashMap<>();
+        for (Object[] row : optionMappingRepository.findOptionIdsOfUnmaskedVehicles()) {
+            Long vehicleId = (Long) row[0];
+            Long optionId = (Long) row[1];
+            masks.merge(vehicleId, 1L << (optionId - 1), (a, b) -> a | b);
+        }
+
+        masks.forEach(vehicleRepository::updateOptionMask);
+        int cleared = vehicleRepository.clearUnsetOptionMasks();
+
+        if (!masks.isEmpty() || cleared > 0) {
+            log.info("차량 옵션 비트마스크 변환 완료: 옵션 보유 {}건, 옵션 없음 {}건", masks.size(), cleared);
+        }
     }
 
     /**
@@ -55,18 +96,20 @@ public class VehicleOptionService {
         // 기존 옵션 매핑 제거
         optionMappingRepository.deleteByVehicle(vehicle);
 
+        // 비트마스크 갱신
+        vehicle.setOptionMask(dictionary.encode(optionNames));
+
         if (optionNames == null || optionNames.isEmpty()) {
             return;
         }
 
-        // 옵션 엔티티 조회
-        List<VehicleOption> options = optionRepository.findByNameIn(optionNames);
-
-        // 새 옵션 매핑 생성
-        List<VehicleOptionMapping> mappings = options.stream()
-                .map(option -> VehicleOptionMapping.builder()
+        // 사전에서 옵션 ID 조회 후 프록시로 매핑 생성 (옵션 테이블 조회 없음)
+        List<VehicleOptionMapping> mappings = new LinkedHashSet<>(optionNames).stream()
+                .map(dictionary::getId)
+                .filter(Objects::nonNull)
+                .map(id -> VehicleOptionMapping.builder()
                         .vehicle(vehicle)
-                        .option(option)
+                        .option(optionRepository.getReferenceById(id))
                         .build())
                 .collect(Collectors.toList());
 
@@ -78,18 +121,44 @@ public class VehicleOptionService {
      */
     @Transactional(readOnly = true)
     public List<String> getVehicleOptionNames(Vehicle vehicle) {
+        if (vehicle.getOptionMask() != null) {
+            return dictionary.decode(vehicle.getOptionMask());
+        }
+
+        // 비트마스크 변환 전 차량은 매핑 테이블 조회
         return optionMappingRepository.findByVehicle(vehicle).stream()
                 .map(mapping -> mapping.getOption().getName())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 옵션 비트마스크를 옵션 목록으로 변환 (프로젝션 조회용, 변환 전 차량은 시작 시 backfill 로 채워짐)
+     */
+    public List<String> getOptionNames(Long optionMask) {
+        return optionMask != null ? dictionary.decode(optionMask) : List.of();
+    }
+
+    /**
+     * 검색 조건의 옵션 목록을 비트마스크로 변환 (존재하지 않는 옵션은 예외)
+     */
+    public long toRequiredOptionMask(List<String> optionNames) {
+        if (optionNames == null || optionNames.isEmpty()) {
+            return 0L;
+        }
+
+        VehicleOptionDictionary current = dictionary;
+        for (String name : optionNames) {
+            if (!current.contains(name)) {
+                throw new BadRequestException("존재하지 않는 옵션입니다: " + name);
+            }
+        }
+        return current.encode(optionNames);
+    }
+
     /**
      * 모든 옵션 목록 조회
      */
-    @Transactional(readOnly = true)
     public List<String> getAllOptionNames() {
-        return optionRepository.findAll().stream()
-                .map(VehicleOption::getName)
-                .collect(Collectors.toList());
+        return dictionary.getNames();
     }
-}
\ No newline at end of file
+}
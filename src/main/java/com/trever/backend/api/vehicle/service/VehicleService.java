@@ -2,23 +2,27 @@ package com.trever.backend.api.vehicle.service;
 
 import com.trever.backend.api.auction.dto.AuctionCreateRequest;
 import com.trever.backend.api.auction.service.AuctionService;
-import com.trever.backend.api.favorite.repository.FavoriteRepository;
+import com.trever.backend.api.favorite.service.FavoriteIndex;
 import com.trever.backend.api.recent.service.RecentViewService;
 import com.trever.backend.api.user.entity.UserProfile;
-import com.trever.backend.api.user.repository.UserProfileRepository;
 import com.trever.backend.api.vehicle.dto.*;
 import com.trever.backend.api.vehicle.entity.VehicleStatus;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
 import com.trever.backend.basiccar.service.CarModelService;
 import com.trever.backend.common.exception.BadRequestException;
 import com.trever.backend.common.exception.InternalServerException;
 import com.trever.backend.common.exception.NotFoundException;
+import com.trever.backend.common.util.LongHashSet;
 import com.trever.backend.api.user.entity.User;
 import com.trever.backend.api.user.repository.UserRepository;
+import com.trever.backend.api.user.service.UserSnapshotCache;
 import com.trever.backend.api.vehicle.entity.Vehicle;
+import com.trever.backend.api.vehicle.entity.VehiclePhoto;
 import com.trever.backend.api.vehicle.repository.VehicleRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,9 +35,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -46,21 +49,25 @@ public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final AuctionService auctionService;
     private final VehiclePhotoService vehiclePhotoService;
     private final RecentViewService recentViewService;
     private final VehicleOptionService vehicleOptionService;
     private final CarModelService carModelService;
-    private final UserProfileRepository userProfileRepository;
-    private final FavoriteRepository favoriteRepository;
+    private final FavoriteIndex favoriteIndex;
+    private final VehicleListingPageCache vehicleListingPageCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VehicleCountTree vehicleCountTree;
     /**
      * 새 차량 등록
      */
     @Transactional
     public Long createVehicle(VehicleCreateRequest request, List<MultipartFile> photos, Long sellerId) {
-        // 사용자 조회
-        User seller = userRepository.findById(sellerId)
+        // 판매자 존재 확인 (캐시) 후 엔티티는 참조로만 사용
+        userSnapshotCache.findById(sellerId)
                 .orElseThrow(() -> new NotFoundException("판매자를 찾을 수 없습니다: " + sellerId));
+        User seller = userRepository.getReferenceById(sellerId);
         // 경매 여부에 따른 유효성 검증
         if (Boolean.TRUE.equals(request.getIsAuction())) {
             if (request.getPrice() != null) {
@@ -106,6 +113,7 @@ public class VehicleService {
                 .price(Boolean.FALSE.equals(request.getIsAuction()) ? request.getPrice() : null)
                 .isAuction(Boolean.TRUE.equals(request.getIsAuction()) ? 'Y' : 'N')
                 .favoriteCount(0)
+                .optionMask(0L)
                 .seller(seller)
                 .vehicleType(request.getVehicleType())
                 .build();
@@ -140,6 +148,8 @@ public class VehicleService {
             vehicle.setAuctionId(auctionId);
             vehicleRepository.save(vehicle);
         }
+
+        eventPublisher.publishEvent(new VehicleChangedEvent(savedVehicle.getId()));
         
         return savedVehicle.getId();
     }
@@ -148,23 +158,27 @@ public class VehicleService {
      * 차량 상세 조회
      */
     public VehicleResponse getVehicleDetail(Long vehicleId, Long userId) {
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-                .orElseThrow(() -> new NotFoundException("차량을 찾을 수 없습니다."));
+        // 차량 + 판매자 + 판매자 프로필 + 사진 한 번에 조회
+        List<Object[]> rows = vehicleRepository.findDetailById(vehicleId);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("차량을 찾을 수 없습니다.");
+        }
 
-        User seller = userRepository.findById(vehicle.getSeller().getId())
-                .orElseThrow(() -> new NotFoundException("판매자를 찾을 수 없습니다."));
+        Vehicle vehicle = (Vehicle) rows.get(0)[0];
+        User seller = vehicle.getSeller();
 
-        User loginUser = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("로그인한 사용자를 찾을 수 없습니다."));
+        UserProfile userProfile = (UserProfile) rows.get(0)[1];
+        if (userProfile == null) {
+            throw new NotFoundException("판매자 프로필을 찾을 수 없습니다.");
+        }
 
-        if (loginUser != null) {
+        // 최근 본 차량 기록은 비동기로 처리
+        if (userId != null) {
             recentViewService.addRecentView(userId, vehicleId);
         }
 
-        UserProfile userProfile = userProfileRepository.findByUser(seller)
-                .orElseThrow(()-> new NotFoundException("판매자 프로필을 찾을 수 없습니다."));
-
-        List<VehiclePhotoDto> photos = vehiclePhotoService.getVehiclePhotos(vehicle.getId()).stream()
+        List<VehiclePhotoDto> photos = vehicle.getPhotos().stream()
+                .sorted(Comparator.comparing(VehiclePhoto::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
                 .map(photo -> VehiclePhotoDto.builder()
                         .id(photo.getId())
                         .photoUrl(photo.getPhotoUrl())
@@ -181,18 +195,10 @@ public class VehicleService {
         // 차량 타입이 null일 경우 처리
         String vehicleTypeName = (vehicle.getVehicleType() != null) ? vehicle.getVehicleType().getDisplayName() : "미정";
 
-        boolean isSeller = false;
-        if (loginUser != null) {
-            // 현재 사용자가 판매자인지 확인
-            if(seller.getId().equals(loginUser.getId())) {
-               isSeller = true;
-            }
-        }
+        // 현재 사용자가 판매자인지 확인
+        boolean isSeller = seller.getId().equals(userId);
 
-        boolean isFavorite = false;
-        if (loginUser != null) {
-            isFavorite = favoriteRepository.existsByUserIdAndVehicleId(userId, vehicle.getId());
-        }
+        boolean isFavorite = favoriteIndex.contains(userId, vehicle.getId());
       
         // VehicleResponse에 대표 사진 URL 포함
         return VehicleResponse.builder()
@@ -234,6 +240,24 @@ public class VehicleService {
      * 차량 목록 조회
      */
     public VehicleListResponse getVehicles(int page, int size, String sortBy, Boolean isAuction, Long userId) {
+        // 캐시 범위 안의 페이지는 DB 조회 없이 응답 (찜 여부만 사용자별로 덧씌움)
+        VehicleListingPageCache.PageSlice cached = vehicleListingPageCache.getPage(page, size, sortBy, isAuction);
+        if (cached != null) {
+            LongHashSet favoriteVehicleIds = favoriteIndex.get(userId);
+            List<VehicleListResponse.VehicleSummary> summaries = cached.getRows().stream()
+                    .map(row -> row.toSummary(
+                            vehicleOptionService.getOptionNames(row.getOptionMask()),
+                            favoriteVehicleIds.contains(row.getId())))
+                    .toList();
+
+            return VehicleListResponse.builder()
+                    .vehicles(summaries)
+                    .totalCount((int) cached.getTotalCount())
+                    .pageNumber(page)
+                    .pageSize(size)
+                    .build();
+        }
+
         Sort sort = Sort.by(Sort.Direction.DESC, sortBy != null ? sortBy : "createdAt");
         Pageable pageable = PageRequest.of(page, size, sort);
 
@@ -262,12 +286,8 @@ public class VehicleService {
             );
         }
 
-        // 현재 사용자가 찜한 차량 ID 목록 조회
-        Set<Long> favoriteVehicleIds = userId != null ?
-                favoriteRepository.findByUserId(userId).stream()
-                        .map(favorite -> favorite.getVehicle().getId())
-                        .collect(Collectors.toSet()) :
-                Set.of();
+        // 현재 사용자가 찜한 차량 ID 색인
+        LongHashSet favoriteVehicleIds = favoriteIndex.get(userId);
 
         List<VehicleListResponse.VehicleSummary> summaries = vehiclesPage.getContent().stream()
                 .map(vehicle -> {
@@ -299,9 +319,10 @@ public class VehicleService {
         Sort sort = Sort.by(Sort.Direction.DESC, sortBy != null ? sortBy : "createdAt");
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // 사용자 존재 확인
-        User user = userRepository.findById(userId)
+        // 사용자 존재 확인 (캐시)
+        userSnapshotCache.findById(userId)
                 .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        User user = userRepository.getReferenceById(userId);
 
         // 사용자가 판매자인 차량 조회
         Page<Vehicle> vehiclesPage = vehicleRepository.findBySeller(user, pageable);
@@ -374,6 +395,7 @@ public class VehicleService {
         }
         
         vehicleRepository.delete(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
     }
 
     // 유틸리티
@@ -458,7 +480,8 @@ public class VehicleService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<Vehicle> vehiclesPage = vehicleRepository.searchByFilter(request, pageable);
+        long requiredOptionMask = vehicleOptionService.toRequiredOptionMask(request.getOptions());
+        Page<Vehicle> vehiclesPage = vehicleRepository.searchByFilter(request, requiredOptionMask, pageable);
 
         // 페이지 객체에서 차량 목록 추출 및 변환
         List<VehicleListResponse.VehicleSummary> summaries = vehiclesPage.getContent().stream()
@@ -484,34 +507,23 @@ public class VehicleService {
         // 2. 수입 제조사 목록 조회
         List<String> importedManufacturers = carModelService.getImportedManufacturers();
 
-        // 3. 모든 제조사의 차량 수 조회
-        List<ManufacturerCountResponse> allManufacturerCounts =
-                vehicleRepository.countByManufacturer(VehicleStatus.ACTIVE);
-
-        // 4. 제조사별 차량 수를 Map으로 변환하여 조회 효율 높이기
-        Map<String, Long> manufacturerCountMap = allManufacturerCounts.stream()
-                .collect(Collectors.toMap(
-                        ManufacturerCountResponse::getManufacturer,
-                        ManufacturerCountResponse::getCount
-                ));
-
-        // 5. 국산 제조사 차량 수 목록 생성
+        // 3. 국산 제조사 차량 수 목록 생성 (집계 트리 조회)
         List<ManufacturerCountResponse> domesticCounts = domesticManufacturers.stream()
                 .map(manufacturer -> new ManufacturerCountResponse(
                         manufacturer,
-                        manufacturerCountMap.getOrDefault(manufacturer, 0L)
+                        vehicleCountTree.count(manufacturer)
                 ))
                 .collect(Collectors.toList());
 
-        // 6. 수입 제조사 차량 수 목록 생성
+        // 4. 수입 제조사 차량 수 목록 생성
         List<ManufacturerCountResponse> importedCounts = importedManufacturers.stream()
                 .map(manufacturer -> new ManufacturerCountResponse(
                         manufacturer,
-                        manufacturerCountMap.getOrDefault(manufacturer, 0L)
+                        vehicleCountTree.count(manufacturer)
                 ))
                 .collect(Collectors.toList());
 
-        // 7. 카테고리별 응답 생성
+        // 5. 카테고리별 응답 생성
         List<ManufacturerCategoryResponse> result = new ArrayList<>();
         result.add(new ManufacturerCategoryResponse("국산", domesticCounts));
         result.add(new ManufacturerCategoryResponse("수입", importedCounts));
@@ -526,19 +538,9 @@ public class VehicleService {
         // basiccar에서 해당 제조사의 모든 차명 목록 조회
         List<String> allCarNames = carModelService.getCarNamesByManufacturer(manufacturer);
 
-        // vehicle에서 해당 제조사의 차명별 차량 수 조회
-        List<CarNameCountResponse> vehicleCounts = vehicleRepository.countByCarName(manufacturer, VehicleStatus.ACTIVE);
-
-        // vehicleCounts를 Map으로 변환
-        Map<String, Long> countsMap = vehicleCounts.stream()
-                .collect(Collectors.toMap(CarNameCountResponse::getCarName, CarNameCountResponse::getCount));
-
-        // 모든 차명에 대해 응답 생성
+        // 모든 차명에 대해 집계 트리에서 차량 수 조회
         return allCarNames.stream()
-                .map(carName -> {
-                    Long count = countsMap.getOrDefault(carName, 0L);
-                    return new CarNameCountResponse(carName, count);
-                })
+                .map(carName -> new CarNameCountResponse(carName, vehicleCountTree.count(manufacturer, carName)))
                 .collect(Collectors.toList());
     }
 
@@ -549,19 +551,9 @@ public class VehicleService {
         // basiccar에서 해당 제조사와 차명의 모든 차모델 목록 조회
         List<String> allCarModels = carModelService.getCarModelsByManufacturerAndCarName(manufacturer, carName);
 
-        // vehicle에서 해당 제조사와 차명의 차모델별 차량 수 조회
-        List<CarModelCountResponse> vehicleCounts = vehicleRepository.countByCarModel(manufacturer, carName, VehicleStatus.ACTIVE);
-
-        // vehicleCounts를 Map으로 변환
-        Map<String, Long> countsMap = vehicleCounts.stream()
-                .collect(Collectors.toMap(CarModelCountResponse::getCarModel, CarModelCountResponse::getCount));
-
-        // 모든 차모델에 대해 응답 생성
+        // 모든 차모델에 대해 집계 트리에서 차량 수 조회
         return allCarModels.stream()
-                .map(carModel -> {
-                    Long count = countsMap.getOrDefault(carModel, 0L);
-                    return new CarModelCountResponse(carModel, count);
-                })
+                .map(carModel -> new CarModelCountResponse(carModel, vehicleCountTree.count(manufacturer, carName, carModel)))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -1,61 +1,143 @@
-//package com.trever.backend.basiccar.component;
-//
-//import com.trever.backend.basiccar.entity.CarModel;
-//import com.trever.backend.basiccar.repository.CarModelRepository;
-//import org.springframework.boot.CommandLineRunner;
-//import org.springframework.core.io.ClassPathResource;
-//import org.springframework.stereotype.Component;
-//
-//import java.io.BufferedReader;
-//import java.io.InputStreamReader;
-//
-//@Component
-//public class CsvDataLoader implements CommandLineRunner {
-//
-//    private final CarModelRepository repository;
-//
-//    public CsvDataLoader(CarModelRepository repository) {
-//        this.repository = repository;
-//    }
-//
-//    @Override
-//    public void run(String... args) throws Exception {
-//        loadCsv("korea.csv");
-//        loadCsv("broad.csv");
-//    }
-//
-//    private void loadCsv(String filename) {
-//        try {
-//            ClassPathResource resource = new ClassPathResource(filename);
-//
-//            try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
-//                String line;
-//                boolean firstLine = true;
-//
-//                while ((line = br.readLine()) != null) {
-//                    // 헤더는 건너뛰기
-//                    if (firstLine) {
-//                        firstLine = false;
-//                        continue;
-//                    }
-//
-//                    String[] tokens = line.split(",");
-//                    if (tokens.length < 5) continue;
-//
-//                    CarModel car = new CarModel();
-//                    car.setCategory(tokens[0].trim());
-//                    car.setManufacturer(tokens[1].trim());
-//                    car.setCarName(tokens[2].trim());
-//                    car.setModelName(tokens[3].trim());
-//                    car.setCarYear(Integer.parseInt(tokens[4].trim()));
-//
-//                    repository.save(car);
-//                }
-//
-//                System.out.printf("[%s] CSV 데이터가 DB에 성공적으로 입력되었습니다!%n", filename);
-//            }
-//        } catch (Exception e) {
-//            System.err.printf("[%s] CSV 로드 중 오류 발생: %s%n", filename, e.getMessage());
-//        }
-//    }
-//}
+package com.trever.backend.basiccar.component;
+
+import com.trever.backend.basiccar.service.CarModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기본 차량 정보 CSV(korea.csv, broad.csv) 적재
+ * 스트리밍 파싱 → 중복 제거 → JDBC 배치 INSERT.
+ * upsert 모드에서는 이미 있는 (카테고리, 제조사, 차명, 모델명, 연식) 조합을 건너뛰므로 매 기동 시 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvDataLoader implements CommandLineRunner {
+
+    private static final String[] FILES = {"korea.csv", "broad.csv"};
+
+    private static final String SELECT_KEYS_SQL =
+            "SELECT category, manufacturer, car_name, model_name, car_year FROM car_model";
+    private static final String INSERT_SQL =
+            "INSERT INTO car_model (category, manufacturer, car_name, model_name, car_year) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CarModelService carModelService;
+
+    @Value("${basiccar.import.enabled:false}")
+    private boolean enabled;
+
+    @Value("${basiccar.import.upsert:true}")
+    private boolean upsert;
+
+    @Value("${basiccar.import.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            return;
+        }
+
+        // 중복 제거용 키 집합 (upsert 모드는 기존 DB 행도 포함)
+        Set<String> seen = new HashSet<>();
+        if (upsert) {
+            jdbcTemplate.query(SELECT_KEYS_SQL, rs -> {
+                seen.add(key(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        (Integer) rs.getObject(5)));
+            });
+        }
+
+        int inserted = 0;
+        for (String filename : FILES) {
+            inserted += loadCsv(filename, seen);
+        }
+
+        if (inserted > 0) {
+            carModelService.reload();
+        }
+    }
+
+    private int loadCsv(String filename, Set<String> seen) {
+        ClassPathResource resource = new ClassPathResource(filename);
+        if (!resource.exists()) {
+            log.warn("[{}] CSV 파일이 없어 건너뜁니다.", filename);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        int read = 0;
+        int inserted = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+
+        try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)))) {
+
+            // 헤더는 건너뛰기
+            reader.next();
+
+            List<String> tokens;
+            while ((tokens = reader.next()) != null) {
+                if (tokens.size() < 5) continue;
+                read++;
+
+                Integer carYear;
+                try {
+                    carYear = Integer.valueOf(tokens.get(4).trim());
+                } catch (NumberFormatException e) {
+                    log.debug("[{}] 연식 형식 오류로 건너뜀: {}", filename, tokens);
+                    continue;
+                }
+
+                String category = tokens.get(0).trim();
+                String manufacturer = tokens.get(1).trim();
+                String carName = tokens.get(2).trim();
+                String modelName = tokens.get(3).trim();
+
+                if (!seen.add(key(category, manufacturer, carName, modelName, carYear))) {
+                    continue;
+                }
+
+                batch.add(new Object[]{category, manufacturer, carName, modelName, carYear});
+                if (batch.size() >= batchSize) {
+                    inserted += flush(batch);
+                }
+            }
+            inserted += flush(batch);
+
+            double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+            log.info("[{}] CSV 적재 완료: 읽은 행 {}건, 신규 {}건, {}초 ({} rows/s)",
+                    filename, read, inserted, String.format("%.2f", seconds), (long) (read / seconds));
+        } catch (Exception e) {
+            log.error("[{}] CSV 로드 중 오류 발생: {}", filename, e.getMessage(), e);
+        }
+        return inserted;
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static String key(String category, String manufacturer, String carName, String modelName, Integer carYear) {
+        return category + '\u0000' + manufacturer + '\u0000' + carName + '\u0000' + modelName + '\u0000' + carYear;
+    }
+}
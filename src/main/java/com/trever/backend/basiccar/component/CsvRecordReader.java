@@ -0,0 +1,100 @@
+package com.trever.backend.basiccar.component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드 단위 스트리밍 파서
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 처리한다.
+ */
+class CsvRecordReader implements Closeable {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = -2;
+    private boolean first = true;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 더 이상 없으면 null
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> record = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        unread(n);
+                    }
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -57,4 +57,12 @@ public class CarModelController {
         return ApiResponse.success(SuccessStatus.CAR_INFO_SUCCESS, years);
     }
 
+    // 5. 기본 차량 정보 재로드 (관리자)
+    @Operation(summary = "기본 차량 정보 재로드", description = "DB의 기본 차량 정보를 다시 읽어 메모리 트리를 교체합니다. (관리자 전용, app.admin-emails 에 등록된 계정)")
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<Integer>> reload() {
+        int loaded = service.reload();
+        return ApiResponse.success(SuccessStatus.CAR_CATALOG_RELOAD_SUCCESS, loaded);
+    }
+
 }
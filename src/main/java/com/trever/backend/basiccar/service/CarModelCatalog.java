@@ -0,0 +1,156 @@
+package com.trever.backend.basiccar.service;
+
+import com.trever.backend.basiccar.entity.CarModel;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 기본 차량 정보 불변 트리: 카테고리 → 제조사 → 차명 → 모델명 → 연식(오름차순)
+ * 카테고리와 무관한 드롭다운/집계용으로 제조사 → 차명 → 모델명 색인도 함께 보관한다.
+ */
+public final class CarModelCatalog {
+
+    private static final String DOMESTIC = "국산";
+    private static final String IMPORTED = "수입";
+
+    private final Map<String, SortedMap<String, SortedMap<String, SortedMap<String, List<Integer>>>>> byCategory;
+    private final SortedMap<String, SortedMap<String, List<String>>> byManufacturer;
+    private final Set<String> domesticManufacturers;
+    private final int size;
+
+    private CarModelCatalog(Map<String, SortedMap<String, SortedMap<String, SortedMap<String, List<Integer>>>>> byCategory,
+                            SortedMap<String, SortedMap<String, List<String>>> byManufacturer,
+                            Set<String> domesticManufacturers,
+                            int size) {
+        this.byCategory = byCategory;
+        this.byManufacturer = byManufacturer;
+        this.domesticManufacturers = domesticManufacturers;
+        this.size = size;
+    }
+
+    public static CarModelCatalog of(List<CarModel> carModels) {
+        Map<String, SortedMap<String, SortedMap<String, SortedMap<String, SortedSet<Integer>>>>> tree = new HashMap<>();
+        SortedMap<String, SortedMap<String, SortedSet<String>>> manufacturerTree = new TreeMap<>();
+
+        for (CarModel carModel : carModels) {
+            if (carModel.getCategory() == null || carModel.getManufacturer() == null
+                    || carModel.getCarName() == null || carModel.getModelName() == null) {
+                continue;
+            }
+
+            SortedSet<Integer> years = tree
+                    .computeIfAbsent(carModel.getCategory(), k -> new TreeMap<>())
+                    .computeIfAbsent(carModel.getManufacturer(), k -> new TreeMap<>())
+                    .computeIfAbsent(carModel.getCarName(), k -> new TreeMap<>())
+                    .computeIfAbsent(carModel.getModelName(), k -> new TreeSet<>());
+            if (carModel.getCarYear() != null) {
+                years.add(carModel.getCarYear());
+            }
+
+            manufacturerTree
+                    .computeIfAbsent(carModel.getManufacturer(), k -> new TreeMap<>())
+                    .computeIfAbsent(carModel.getCarName(), k -> new TreeSet<>())
+                    .add(carModel.getModelName());
+        }
+
+        // 연식/모델명 집합을 불변 리스트로 고정
+        Map<String, SortedMap<String, SortedMap<String, SortedMap<String, List<Integer>>>>> byCategory = new HashMap<>();
+        tree.forEach((category, manufacturers) -> {
+            SortedMap<String, SortedMap<String, SortedMap<String, List<Integer>>>> frozenManufacturers = new TreeMap<>();
+            manufacturers.forEach((manufacturer, carNames) -> {
+                SortedMap<String, SortedMap<String, List<Integer>>> frozenCarNames = new TreeMap<>();
+                carNames.forEach((carName, models) -> {
+                    SortedMap<String, List<Integer>> frozenModels = new TreeMap<>();
+                    models.forEach((modelName, years) -> frozenModels.put(modelName, List.copyOf(years)));
+                    frozenCarNames.put(carName, Collections.unmodifiableSortedMap(frozenModels));
+                });
+                frozenManufacturers.put(manufacturer, Collections.unmodifiableSortedMap(frozenCarNames));
+            });
+            byCategory.put(category, Collections.unmodifiableSortedMap(frozenManufacturers));
+        });
+
+        SortedMap<String, SortedMap<String, List<String>>> byManufacturer = new TreeMap<>();
+        manufacturerTree.forEach((manufacturer, carNames) -> {
+            SortedMap<String, List<String>> frozenCarNames = new TreeMap<>();
+            carNames.forEach((carName, models) -> frozenCarNames.put(carName, List.copyOf(models)));
+            byManufacturer.put(manufacturer, Collections.unmodifiableSortedMap(frozenCarNames));
+        });
+
+        Set<String> domestic = new HashSet<>(byCategory.getOrDefault(DOMESTIC, Collections.emptySortedMap()).keySet());
+
+        return new CarModelCatalog(
+                Collections.unmodifiableMap(byCategory),
+                Collections.unmodifiableSortedMap(byManufacturer),
+                Collections.unmodifiableSet(domestic),
+                carModels.size());
+    }
+
+    public List<String> getManufacturers(String category) {
+        return keys(byCategory.get(category));
+    }
+
+    public List<String> getCarNames(String category, String manufacturer) {
+        return keys(manufacturers(category).get(manufacturer));
+    }
+
+    public List<String> getModelNames(String category, String manufacturer, String carName) {
+        return keys(carNames(category, manufacturer).get(carName));
+    }
+
+    public List<Integer> getYears(String category, String manufacturer, String carName, String modelName) {
+        SortedMap<String, List<Integer>> models = carNames(category, manufacturer).get(carName);
+        List<Integer> years = models != null ? models.get(modelName) : null;
+        return years != null ? years : List.of();
+    }
+
+    public List<String> getAllManufacturers() {
+        return keys(byManufacturer);
+    }
+
+    public List<String> getCarNamesByManufacturer(String manufacturer) {
+        return keys(byManufacturer.get(manufacturer));
+    }
+
+    public List<String> getModelNamesByManufacturerAndCarName(String manufacturer, String carName) {
+        SortedMap<String, List<String>> carNames = byManufacturer.get(manufacturer);
+        List<String> models = carNames != null ? carNames.get(carName) : null;
+        return models != null ? models : List.of();
+    }
+
+    public List<String> getDomesticManufacturers() {
+        return getManufacturers(DOMESTIC);
+    }
+
+    public List<String> getImportedManufacturers() {
+        return getManufacturers(IMPORTED);
+    }
+
+    public boolean isDomesticManufacturer(String manufacturer) {
+        return domesticManufacturers.contains(manufacturer);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private SortedMap<String, SortedMap<String, SortedMap<String, List<Integer>>>> manufacturers(String category) {
+        return byCategory.getOrDefault(category, Collections.emptySortedMap());
+    }
+
+    private SortedMap<String, SortedMap<String, List<Integer>>> carNames(String category, String manufacturer) {
+        return manufacturers(category).getOrDefault(manufacturer, Collections.emptySortedMap());
+    }
+
+    private static List<String> keys(Map<String, ?> map) {
+        return map != null ? List.copyOf(map.keySet()) : List.of();
+    }
+}
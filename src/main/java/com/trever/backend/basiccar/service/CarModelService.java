@@ -1,72 +1,93 @@
 package com.trever.backend.basiccar.service;
 import com.trever.backend.basiccar.repository.CarModelRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CarModelService {
 
     private final CarModelRepository repository;
 
+    // 기본 차량 정보 트리 (시작 시 1회 로드, 관리자 요청 시 재로드)
+    private volatile CarModelCatalog catalog;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 기본 차량 정보 전체를 다시 읽어 트리 교체
+     */
+    public int reload() {
+        CarModelCatalog loaded = CarModelCatalog.of(repository.findAll());
+        this.catalog = loaded;
+        log.info("기본 차량 정보 로드 완료: {}건", loaded.size());
+        return loaded.size();
+    }
+
     public List<String> getManufacturers(String category) {
-        return repository.findDistinctManufacturerByCategory(category);
+        return catalog.getManufacturers(category);
     }
 
     public List<String> getCarNames(String category, String manufacturer) {
-        return repository.findDistinctCarNameByCategoryAndManufacturer(category, manufacturer);
+        return catalog.getCarNames(category, manufacturer);
     }
 
     public List<String> getModelNames(String category, String manufacturer, String carName) {
-        return repository.findDistinctModelNameByCategoryAndManufacturerAndCarName(category, manufacturer, carName);
+        return catalog.getModelNames(category, manufacturer, carName);
     }
 
     public List<Integer> getYears(String category, String manufacturer, String carName, String modelName) {
-        return repository.findDistinctYearByCategoryAndManufacturerAndCarNameAndModelName(category, manufacturer, carName, modelName);
+        return catalog.getYears(category, manufacturer, carName, modelName);
     }
 
     /**
      * 모든 제조사 목록 조회
      */
     public List<String> getAllManufacturers() {
-        return repository.findDistinctManufacturers();
+        return catalog.getAllManufacturers();
     }
 
     /**
      * 특정 제조사의 모든 차명 목록 조회
      */
     public List<String> getCarNamesByManufacturer(String manufacturer) {
-        return repository.findDistinctCarNamesByManufacturer(manufacturer);
+        return catalog.getCarNamesByManufacturer(manufacturer);
     }
 
     /**
      * 특정 제조사와 차명의 모든 차모델 목록 조회
      */
     public List<String> getCarModelsByManufacturerAndCarName(String manufacturer, String carName) {
-        return repository.findDistinctCarModelsByManufacturerAndCarName(manufacturer, carName);
+        return catalog.getModelNamesByManufacturerAndCarName(manufacturer, carName);
     }
 
     /**
      * 국산 제조사 목록 조회
      */
     public List<String> getDomesticManufacturers() {
-        return repository.findDistinctDomesticManufacturers();
+        return catalog.getDomesticManufacturers();
     }
 
     /**
      * 수입 제조사 목록 조회
      */
     public List<String> getImportedManufacturers() {
-        return repository.findDistinctImportedManufacturers();
+        return catalog.getImportedManufacturers();
     }
 
     /**
      * 제조사가 국산인지 확인
      */
     public boolean isDomesticManufacturer(String manufacturer) {
-        return getDomesticManufacturers().contains(manufacturer);
+        return catalog.isDomesticManufacturer(manufacturer);
     }
 
     /**
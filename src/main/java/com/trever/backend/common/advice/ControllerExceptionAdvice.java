@@ -1,8 +1,10 @@
 package com.trever.backend.common.advice;
 
 import com.trever.backend.common.exception.BaseException;
+import com.trever.backend.common.exception.TooManyRequestsException;
 import com.trever.backend.common.response.ApiResponse;
 import com.trever.backend.common.response.ErrorStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +29,13 @@ public class ControllerExceptionAdvice {
                 .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -46,6 +56,16 @@ public class ControllerExceptionAdvice {
                 .body(ApiResponse.fail(HttpStatus.BAD_REQUEST.value(),String.format("%s. (%s)", fieldError.getDefaultMessage(), fieldError.getField())));
     }
 
+    /**
+     * 비동기 응답(CompletableFuture) 대기 시간 초과
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ApiResponse> handleAsyncRequestTimeout(AsyncRequestTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.fail(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        ErrorStatus.ASYNC_REQUEST_TIMEOUT.getMessage()));
+    }
+
     /**
      * 비동기 처리 예외
      */
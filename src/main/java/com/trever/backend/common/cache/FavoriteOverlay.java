@@ -0,0 +1,115 @@
+package com.trever.backend.common.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.trever.backend.common.util.LongHashSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 공유 차량 목록 응답 본문 위에 사용자별 찜 여부를 덧씌우는 색인
+ * 캐시에 넣을 때 한 번만 본문을 훑어 data.vehicles[] 각 항목의 id 와 "isFavorite":false 값의 바이트 위치를 기록하고,
+ * 요청마다 찜한 차량의 false 만 true 로 바꾼 사본을 만든다 (역직렬화/직렬화 없음).
+ */
+final class FavoriteOverlay {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final int FALSE_LENGTH = 5;
+
+    private static final FavoriteOverlay EMPTY = new FavoriteOverlay(new long[0], new int[0]);
+
+    // 차량 id 와 해당 항목 isFavorite 값(false)의 시작 위치 (본문 순서)
+    private final long[] vehicleIds;
+    private final int[] offsets;
+
+    private FavoriteOverlay(long[] vehicleIds, int[] offsets) {
+        this.vehicleIds = vehicleIds;
+        this.offsets = offsets;
+    }
+
+    /**
+     * 본문 색인 (형식이 예상과 다르면 덧씌울 항목 없음)
+     */
+    static FavoriteOverlay index(byte[] body) {
+        long[] ids = new long[16];
+        int[] positions = new int[16];
+        int count = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || !moveToField(parser, "data")
+                    || parser.nextToken() != JsonToken.START_OBJECT || !moveToField(parser, "vehicles")
+                    || parser.nextToken() != JsonToken.START_ARRAY) {
+                return EMPTY;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Long id = null;
+                int position = -1;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                        id = parser.getLongValue();
+                    } else if ("isFavorite".equals(field) && value == JsonToken.VALUE_FALSE) {
+                        position = (int) parser.currentTokenLocation().getByteOffset();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (id != null && position >= 0) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    ids[count] = id;
+                    positions[count] = position;
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            return EMPTY;
+        }
+        return count == 0 ? EMPTY : new FavoriteOverlay(Arrays.copyOf(ids, count), Arrays.copyOf(positions, count));
+    }
+
+    /**
+     * 찜한 차량만 isFavorite 를 true 로 바꾼 본문 (해당 차량이 없으면 null)
+     */
+    byte[] apply(byte[] body, LongHashSet favorites) {
+        ByteArrayOutputStream out = null;
+        int copied = 0;
+        for (int i = 0; i < vehicleIds.length; i++) {
+            if (!favorites.contains(vehicleIds[i])) {
+                continue;
+            }
+            if (out == null) {
+                out = new ByteArrayOutputStream(body.length);
+            }
+            out.write(body, copied, offsets[i] - copied);
+            out.write(TRUE, 0, TRUE.length);
+            copied = offsets[i] + FALSE_LENGTH;
+        }
+        if (out == null) {
+            return null;
+        }
+        out.write(body, copied, body.length - copied);
+        return out.toByteArray();
+    }
+
+    // 현재 객체에서 이름이 name 인 필드까지 이동 (다른 필드 값은 건너뜀)
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (name.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
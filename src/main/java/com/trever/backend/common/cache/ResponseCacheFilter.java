@@ -0,0 +1,194 @@
+package com.trever.backend.common.cache;
+
+import com.trever.backend.api.favorite.service.FavoriteIndex;
+import com.trever.backend.api.jwt.CurrentUserIdLookup;
+import com.trever.backend.common.util.LongHashSet;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회 빈도가 높은 GET API 응답 본문 캐시 필터
+ * 캐시된 응답은 컨트롤러/직렬화 없이 바이트를 그대로 쓰고, If-None-Match 가 일치하면 304 로 응답한다.
+ * 키는 경로 + 정렬된 쿼리 파라미터로 만들고 사용자와 무관한 본문 하나만 보관한다.
+ * 찜 여부가 들어가는 차량 목록은 비로그인 기준으로 생성해 두고, 로그인 사용자에게는 FavoriteIndex 로 찜 여부만 덧씌워 응답한다.
+ * Spring Security 필터 체인(JwtFilter) 다음에 실행되도록 FilterConfig 에서 순서를 지정해 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("/api/vehicles", ResponseCacheGroup.VEHICLE_LIST, true),
+            new Rule("/api/vehicles/manufacturers", ResponseCacheGroup.VEHICLE_COUNTS, false),
+            new Rule("/api/vehicles/manufacturers/**", ResponseCacheGroup.VEHICLE_COUNTS, false),
+            new Rule("/api/auctions", ResponseCacheGroup.AUCTIONS, false),
+            new Rule("/api/auctions/{auctionId:\\d+}", ResponseCacheGroup.AUCTIONS, false)
+    );
+
+    private final ResponseCacheStore responseCacheStore;
+    private final FavoriteIndex favoriteIndex;
+    private final CurrentUserIdLookup currentUserIdLookup;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || findRule(path(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Rule rule = findRule(path(request));
+        String key = key(request);
+
+        ResponseCacheStore.Entry entry = responseCacheStore.get(key, rule.group);
+        if (entry == null) {
+            // 생성 시작 시점의 세대를 기록해 두어 생성 중 무효화된 결과는 저장하지 않음
+            long generation = responseCacheStore.generation(rule.group);
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            if (rule.favoriteOverlay) {
+                renderAnonymously(request, wrapper, filterChain);
+            } else {
+                filterChain.doFilter(request, wrapper);
+            }
+
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+            entry = responseCacheStore.put(key, rule.group, generation,
+                    wrapper.getContentAsByteArray(), wrapper.getContentType(), rule.favoriteOverlay);
+        }
+
+        write(request, response, entry, rule.favoriteOverlay);
+    }
+
+    /**
+     * 공용 본문 생성: 로그인 정보를 잠시 비워 찜 여부가 모두 false 인 응답을 만든다 (공개 API 만 대상)
+     */
+    private void renderAnonymously(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SecurityContext original = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.setContext(original);
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       ResponseCacheStore.Entry entry, boolean favoriteOverlay) throws IOException {
+        byte[] body = entry.getBody();
+        byte[] gzipBody = entry.getGzipBody();
+        String etag = entry.getEtag();
+
+        // 찜한 차량이 페이지에 있으면 해당 항목만 true 로 바꾼 사본과 그에 맞는 ETag 로 응답
+        if (favoriteOverlay && entry.getFavoriteOverlay() != null) {
+            LongHashSet favorites = favoriteIndex.get(currentUserIdLookup.currentUserId());
+            byte[] overlaid = favorites.isEmpty() ? null : entry.getFavoriteOverlay().apply(body, favorites);
+            if (overlaid != null) {
+                body = overlaid;
+                gzipBody = null;
+                etag = ResponseCacheStore.etag(overlaid);
+            }
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, favoriteOverlay ? "Accept-Encoding, Authorization" : "Accept-Encoding");
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipBody != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = gzipBody;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (entry.getContentType() != null) {
+            response.setContentType(entry.getContentType());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 캐시 키 (경로 + 정렬된 쿼리 파라미터)
+     */
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(path(request)).append('?');
+
+        Map<String, String[]> params = new TreeMap<>(request.getParameterMap());
+        params.forEach((name, values) -> {
+            for (String value : values) {
+                key.append(name).append('=').append(value).append('&');
+            }
+        });
+
+        return key.toString();
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Rule findRule(String path) {
+        for (Rule rule : RULES) {
+            if (PATH_MATCHER.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static final class Rule {
+        private final String pattern;
+        private final ResponseCacheGroup group;
+        // 로그인 사용자별 찜 여부를 덧씌우는지 (본문은 비로그인 기준으로 공용 캐시)
+        private final boolean favoriteOverlay;
+
+        private Rule(String pattern, ResponseCacheGroup group, boolean favoriteOverlay) {
+            this.pattern = pattern;
+            this.group = group;
+            this.favoriteOverlay = favoriteOverlay;
+        }
+    }
+}
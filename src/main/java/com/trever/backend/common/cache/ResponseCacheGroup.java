@@ -0,0 +1,13 @@
+package com.trever.backend.common.cache;
+
+/**
+ * 응답 캐시 무효화 단위
+ */
+public enum ResponseCacheGroup {
+    // 차량 목록 (사용자 공용, 찜 여부는 요청마다 덧씌움)
+    VEHICLE_LIST,
+    // 제조사/차명/모델별 차량 수
+    VEHICLE_COUNTS,
+    // 경매 목록/상세
+    AUCTIONS
+}
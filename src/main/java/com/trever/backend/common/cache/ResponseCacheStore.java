@@ -0,0 +1,144 @@
+package com.trever.backend.common.cache;
+
+import com.trever.backend.api.auction.event.AuctionChangedEvent;
+import com.trever.backend.api.vehicle.event.VehicleChangedEvent;
+import lombok.Getter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 응답 본문 캐시
+ * UTF-8 바이트와 gzip 압축본, ETag 를 함께 보관한다.
+ * 그룹별 세대 번호로 무효화하므로 무효화 비용은 상수이고, 이전 세대 항목은 조회 시 버려진다.
+ */
+@Component
+public class ResponseCacheStore {
+
+    // 최대 보관 항목 수 (초과 시 가장 오래 사용하지 않은 항목부터 제거)
+    private static final int MAX_ENTRIES = 2_000;
+
+    // 이벤트 없이 바뀌는 값(찜 수 등)을 위한 최대 보관 시간
+    private static final long TTL_MILLIS = 60_000;
+
+    // 이 크기 이상만 gzip 압축본 생성
+    private static final int GZIP_MIN_BYTES = 1_024;
+
+    private final Map<ResponseCacheGroup, AtomicLong> generations = new EnumMap<>(ResponseCacheGroup.class);
+
+    private final Map<String, Entry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    public ResponseCacheStore() {
+        for (ResponseCacheGroup group : ResponseCacheGroup.values()) {
+            generations.put(group, new AtomicLong());
+        }
+    }
+
+    public Entry get(String key, ResponseCacheGroup group) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation != generation(group) || System.currentTimeMillis() - entry.createdAt > TTL_MILLIS) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 응답 본문 저장 (생성 도중 무효화되었으면 저장하지 않고 반환만)
+     * indexFavorites 면 요청별 찜 여부를 덧씌울 수 있도록 본문 색인을 함께 만든다.
+     */
+    public Entry put(String key, ResponseCacheGroup group, long generation, byte[] body, String contentType,
+                     boolean indexFavorites) {
+        Entry entry = new Entry(body, gzip(body), etag(body), contentType,
+                indexFavorites ? FavoriteOverlay.index(body) : null, generation, System.currentTimeMillis());
+        if (generation == generation(group)) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    public long generation(ResponseCacheGroup group) {
+        return generations.get(group).get();
+    }
+
+    public void invalidate(ResponseCacheGroup group) {
+        generations.get(group).incrementAndGet();
+    }
+
+    // 목록 스냅샷·페이지 캐시(HIGHEST_PRECEDENCE)가 변경을 반영한 뒤에 무효화
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        invalidate(ResponseCacheGroup.VEHICLE_LIST);
+        invalidate(ResponseCacheGroup.VEHICLE_COUNTS);
+        invalidate(ResponseCacheGroup.AUCTIONS);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        invalidate(ResponseCacheGroup.AUCTIONS);
+    }
+
+    static String etag(byte[] body) {
+        return '"' + DigestUtils.md5DigestAsHex(body) + '"';
+    }
+
+    private static byte[] gzip(byte[] body) {
+        if (body.length < GZIP_MIN_BYTES) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    public static class Entry {
+        private final byte[] body;
+        // 압축 이득이 없는 작은 응답은 null
+        private final byte[] gzipBody;
+        private final String etag;
+        private final String contentType;
+        // 찜 여부 덧씌우기 색인 (공용 차량 목록만, 그 외 null)
+        private final FavoriteOverlay favoriteOverlay;
+        private final long generation;
+        private final long createdAt;
+
+        private Entry(byte[] body, byte[] gzipBody, String etag, String contentType, FavoriteOverlay favoriteOverlay,
+                      long generation, long createdAt) {
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.favoriteOverlay = favoriteOverlay;
+            this.generation = generation;
+            this.createdAt = createdAt;
+        }
+    }
+}
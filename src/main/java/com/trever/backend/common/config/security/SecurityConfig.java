@@ -2,9 +2,11 @@ package com.trever.backend.common.config.security;
 
 import com.trever.backend.api.jwt.JwtFilter;
 import com.trever.backend.api.jwt.JwtProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -62,6 +64,12 @@ public class SecurityConfig {
 
                 // URL
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치: 최초 요청에서 이미 인가됨 (JwtFilter 는 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                        // Admin: 기본 차량 정보 재로드 (ROLE_ADMIN 은 app.admin-emails 계정에만 부여)
+                        .requestMatchers(HttpMethod.POST, "/api/cars/reload").hasRole("ADMIN")
+
                         // Public: H2 console, Swagger
                         .requestMatchers(
                                 "/h2-console/**",
@@ -1,6 +1,7 @@
 package com.trever.backend.common.config.swagger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trever.backend.api.jwt.CurrentUserId;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +19,11 @@ import org.springframework.web.multipart.MultipartFile;
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 로그인 사용자 id 는 토큰에서 주입되므로 문서 파라미터에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUserId.class);
+    }
+
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
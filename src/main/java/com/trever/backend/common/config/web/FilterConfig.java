@@ -0,0 +1,31 @@
+package com.trever.backend.common.config.web;
+
+import com.trever.backend.api.jwt.JwtFilter;
+import com.trever.backend.common.cache.ResponseCacheFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서블릿 필터 등록 순서
+ * 응답 캐시 필터는 Spring Security 필터 체인 바로 다음에 실행해 인증 정보(찜 여부 덧씌우기)를 사용하고,
+ * JwtFilter 는 Security 필터 체인 안에서만 실행한다 (서블릿 필터로 중복 등록하면 공용 본문 생성 중 인증이 다시 채워짐).
+ */
+@Configuration
+public class FilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilterRegistration(ResponseCacheFilter filter) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<JwtFilter> jwtFilterRegistration(JwtFilter filter) {
+        FilterRegistrationBean<JwtFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
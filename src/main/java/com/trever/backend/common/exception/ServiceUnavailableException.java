@@ -0,0 +1,13 @@
+package com.trever.backend.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BaseException {
+    public ServiceUnavailableException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
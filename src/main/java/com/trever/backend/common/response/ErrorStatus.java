@@ -59,11 +59,23 @@ public enum ErrorStatus {
     USER_PROFILE_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자 프로필을 찾을 수 없습니다."),
     FAVORITE_NOT_FOUND(HttpStatus.NOT_FOUND, "찜을 찾을 수 없습니다."),
 
+    /**
+     * 429 TOO_MANY_REQUESTS
+     */
+    TOO_MANY_BID_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     /**
      * 500 SERVER_ERROR
      */
     PASSPORT_SIGN_ERROR_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"Passport 서명 검증 중 오류가 발생했습니다."),
     CONTRACT_PDF_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "계약서 PDF 생성 중 오류가 발생했습니다."),
+
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    AUTH_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    BID_PROCESSING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "입찰 처리 시간이 초과되었습니다."),
+    ASYNC_REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다."),
     ;
 
     private final HttpStatus httpStatus;
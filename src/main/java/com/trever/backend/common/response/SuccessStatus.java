@@ -52,6 +52,10 @@ public enum SuccessStatus {
     RECENT_SEARCH_DELETE_SUCCESS(HttpStatus.OK, "최근 검색어 삭제 성공"),
     READ_MY_VEHICLE_SUCCESS(HttpStatus.OK, "내가 등록한 차량 조회 성공"),
     CHECK_CAR_NUMBER_SUCCESS(HttpStatus.OK, "차량번호 조회"),
+    CAR_FACET_SUCCESS(HttpStatus.OK, "차량 필터 집계 조회 성공"),
+    CAR_CATALOG_RELOAD_SUCCESS(HttpStatus.OK, "기본 차량 정보 재로드 성공"),
+    AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "검색어 자동완성 조회 성공"),
+    POPULAR_KEYWORD_SUCCESS(HttpStatus.OK, "인기 검색어 조회 성공"),
 
 
 
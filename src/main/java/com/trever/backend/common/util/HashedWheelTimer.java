@@ -0,0 +1,234 @@
+package com.trever.backend.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시 타이머 휠 (짧은 요청 마감 시간 전용)
+ * 예약/취소는 잠금 없는 큐에 넣기만 하고, 스레드 하나가 tick 마다 칸(bucket)으로 옮기고 만료된 작업을 실행한다.
+ * 취소된 작업은 다음 tick 에 칸에서 바로 빠지므로 대부분 취소되는 마감 시간이 쌓여도 메모리가 늘지 않는다.
+ * 만료 작업은 타이머 스레드에서 실행되므로 짧게 끝나야 한다.
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread worker;
+
+    // 예약 후 아직 칸에 들어가지 않은 작업 / 취소 요청된 작업
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    // 예약 후 만료/취소되지 않은 작업 수
+    private final AtomicLong pending = new AtomicLong();
+
+    private final long startTime;
+    private volatile boolean running = true;
+
+    /**
+     * @param name      타이머 스레드 이름
+     * @param tick      한 칸의 시간 (마감 시간 오차)
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+     */
+    public HashedWheelTimer(String name, long tick, TimeUnit unit, int wheelSize) {
+        this.tickNanos = unit.toNanos(tick);
+        this.wheel = new Bucket[Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delay 후 task 실행 예약
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("타이머가 종료되었습니다.");
+        }
+        long deadline = System.nanoTime() - startTime + unit.toNanos(delay);
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 타이머 종료 (남은 작업은 실행하지 않음)
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                    continue;
+                }
+            }
+
+            removeCancelled();
+            transferPending(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+        log.debug("타이머 종료: {}", worker.getName());
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending(long currentTick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - currentTick) / wheel.length;
+
+            // 이미 지난 마감 시간은 현재 칸에서 바로 처리
+            long ticks = Math.max(calculated, currentTick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * 예약된 작업 핸들
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 아래 필드는 타이머 스레드에서만 접근
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 실행 전이면 취소 (이미 실행/취소된 경우 false)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("타이머 작업 실행 중 오류: {}", t.getMessage(), t);
+            }
+        }
+    }
+
+    /**
+     * 한 칸에 속한 작업 (이중 연결 리스트, 타이머 스레드 전용)
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
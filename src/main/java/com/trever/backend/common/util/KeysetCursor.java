@@ -0,0 +1,59 @@
+package com.trever.backend.common.util;
+
+import com.trever.backend.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 시각 + id)
+ * 클라이언트에는 URL-safe Base64 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime sortedAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = sortedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지로 보고 null)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 키셋 페이지 전체 건수 (첫 페이지에만 계산, 이후 페이지는 null)
+     * 첫 페이지가 마지막 페이지면 COUNT 없이 조회 건수를 그대로 쓴다.
+     */
+    public static Integer totalCount(KeysetCursor after, boolean hasNext, int pageRows, LongSupplier counter) {
+        if (after != null) {
+            return null;
+        }
+        return hasNext ? (int) counter.getAsLong() : pageRows;
+    }
+}
@@ -0,0 +1,132 @@
+package com.trever.backend.common.util;
+
+import java.util.Collection;
+
+/**
+ * long 값 불변 해시 집합 (개방 주소법, 박싱 없음)
+ * 변경은 새 집합을 반환하므로 여러 스레드가 잠금 없이 조회할 수 있다.
+ */
+public final class LongHashSet {
+
+    private static final LongHashSet EMPTY = new LongHashSet(new long[0], false, 0);
+
+    // 0 은 빈 칸 표시로 쓰므로 별도 플래그로 보관
+    private final long[] table;
+    private final boolean containsZero;
+    private final int size;
+
+    private LongHashSet(long[] table, boolean containsZero, int size) {
+        this.table = table;
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    public static LongHashSet empty() {
+        return EMPTY;
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        long[] table = new long[capacityFor(values.size())];
+        boolean containsZero = false;
+        int size = 0;
+        for (Long value : values) {
+            if (value == null) continue;
+            if (value == 0L) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+            } else if (insert(table, value)) {
+                size++;
+            }
+        }
+        return new LongHashSet(table, containsZero, size);
+    }
+
+    public boolean contains(long value) {
+        if (value == 0L) {
+            return containsZero;
+        }
+        if (table.length == 0) {
+            return false;
+        }
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == value) return true;
+            if (slot == 0L) return false;
+        }
+    }
+
+    public LongHashSet with(long value) {
+        if (contains(value)) {
+            return this;
+        }
+        if (value == 0L) {
+            return new LongHashSet(table, true, size + 1);
+        }
+        long[] copy = rehash(capacityFor(size + 1));
+        insert(copy, value);
+        return new LongHashSet(copy, containsZero, size + 1);
+    }
+
+    public LongHashSet without(long value) {
+        if (!contains(value)) {
+            return this;
+        }
+        if (value == 0L) {
+            return new LongHashSet(table, false, size - 1);
+        }
+        long[] copy = new long[capacityFor(size - 1)];
+        for (long slot : table) {
+            if (slot != 0L && slot != value) {
+                insert(copy, slot);
+            }
+        }
+        return new LongHashSet(copy, containsZero, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private long[] rehash(int capacity) {
+        long[] copy = new long[capacity];
+        for (long slot : table) {
+            if (slot != 0L) {
+                insert(copy, slot);
+            }
+        }
+        return copy;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == value) return false;
+            if (slot == 0L) {
+                table[i] = value;
+                return true;
+            }
+        }
+    }
+
+    // 적재율 0.5 이하가 되도록 2의 거듭제곱 크기 계산
+    private static int capacityFor(int size) {
+        int capacity = 4;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
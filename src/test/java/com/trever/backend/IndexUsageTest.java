@@ -0,0 +1,67 @@
+package com.trever.backend;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 쿼리가 엔티티에 선언한 인덱스를 타는지 EXPLAIN 으로 확인 (내장 H2, 스키마는 엔티티 기준 생성)
+ */
+@DataJpaTest
+class IndexUsageTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	void auctionListingUsesStatusAuctionCreatedIndex() {
+		String plan = explain("SELECT v.id FROM vehicles v"
+				+ " WHERE v.vehicle_status IN ('ACTIVE', 'AUCTIONS') AND v.is_auction = 'Y'"
+				+ " ORDER BY v.created_at DESC LIMIT 10");
+
+		assertThat(plan).contains("idx_vehicles_status_auction_created");
+	}
+
+	@Test
+	void highestBidUsesAuctionPriceCreatedIndex() {
+		String plan = explain("SELECT b.id FROM bids b"
+				+ " WHERE b.auction_id = 1"
+				+ " ORDER BY b.bid_price DESC, b.created_at ASC LIMIT 1");
+
+		assertThat(plan).contains("idx_bids_auction_price_created");
+	}
+
+	@Test
+	void favoritesPageUsesUserCreatedIndex() {
+		String plan = explain("SELECT f.id, v.id FROM favorites f JOIN vehicles v ON v.id = f.vehicle_id"
+				+ " WHERE f.user_id = 1 AND v.vehicle_status IN ('ACTIVE', 'AUCTIONS')"
+				+ " ORDER BY f.created_at DESC, f.id DESC LIMIT 11");
+
+		assertThat(plan).contains("idx_favorites_user_created");
+	}
+
+	@Test
+	void recentViewsPageUsesUserUpdatedIndex() {
+		String plan = explain("SELECT rv.id, v.id FROM recent_views rv JOIN vehicles v ON v.id = rv.vehicle_id"
+				+ " WHERE rv.user_id = 1 AND v.vehicle_status IN ('ACTIVE', 'AUCTIONS')"
+				+ " ORDER BY rv.updated_at DESC, rv.id DESC LIMIT 11");
+
+		assertThat(plan).contains("idx_recent_views_user_updated");
+	}
+
+	// H2 는 실행 계획의 인덱스 이름을 대문자로 출력하므로 소문자로 맞춰 비교
+	private String explain(String sql) {
+		List<?> rows = em.createNativeQuery("EXPLAIN " + sql).getResultList();
+		return rows.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining("\n"))
+				.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,129 @@
+package com.trever.backend.api.user.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 구글 ID 토큰 검증 (로컬 RSA 키로 서명한 토큰 + 고정 키 공급원, 원격 조회 없음)
+ */
+class GoogleOAuthServiceTest {
+
+	private static final String WEB_CLIENT_ID = "web-client.apps.googleusercontent.com";
+	private static final String IOS_CLIENT_ID = "ios-client.apps.googleusercontent.com";
+
+	private KeyPair googleKey;
+	private StaticKeySource keySource;
+	private GoogleOAuthService googleOAuthService;
+
+	@BeforeEach
+	void setUp() throws GeneralSecurityException {
+		googleKey = generateKeyPair();
+		keySource = new StaticKeySource(googleKey.getPublic());
+		googleOAuthService = new GoogleOAuthService(WEB_CLIENT_ID, IOS_CLIENT_ID, keySource);
+	}
+
+	@Test
+	void acceptsTokenSignedWithGoogleKey() throws Exception {
+		long now = System.currentTimeMillis() / 1000;
+		String token = sign(googleKey.getPrivate(), payload(IOS_CLIENT_ID, now, now + 3600));
+
+		GoogleIdToken.Payload payload = googleOAuthService.verifyIdToken(token);
+
+		assertThat(payload.getEmail()).isEqualTo("user@example.com");
+		assertThat(keySource.refreshCount).isZero();
+	}
+
+	@Test
+	void rejectsOtherAudience() throws Exception {
+		long now = System.currentTimeMillis() / 1000;
+		String token = sign(googleKey.getPrivate(), payload("other-client.apps.googleusercontent.com", now, now + 3600));
+
+		assertThatThrownBy(() -> googleOAuthService.verifyIdToken(token))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsExpiredToken() throws Exception {
+		// 허용 오차(5분)보다 오래 지난 토큰
+		long now = System.currentTimeMillis() / 1000;
+		String token = sign(googleKey.getPrivate(), payload(WEB_CLIENT_ID, now - 7200, now - 3600));
+
+		assertThatThrownBy(() -> googleOAuthService.verifyIdToken(token))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsTokenSignedWithUnknownKey() throws Exception {
+		long now = System.currentTimeMillis() / 1000;
+		String token = sign(generateKeyPair().getPrivate(), payload(WEB_CLIENT_ID, now, now + 3600));
+
+		assertThatThrownBy(() -> googleOAuthService.verifyIdToken(token))
+				.isInstanceOf(IllegalArgumentException.class);
+		// 키 교체 가능성에 대비해 한 번만 다시 가져온다
+		assertThat(keySource.refreshCount).isEqualTo(1);
+	}
+
+	private static GoogleIdToken.Payload payload(String audience, long issuedAt, long expiresAt) {
+		GoogleIdToken.Payload payload = new GoogleIdToken.Payload();
+		payload.setIssuer("https://accounts.google.com");
+		payload.setAudience(audience);
+		payload.setSubject("1234567890");
+		payload.setEmail("user@example.com");
+		payload.setEmailVerified(true);
+		payload.setIssuedAtTimeSeconds(issuedAt);
+		payload.setExpirationTimeSeconds(expiresAt);
+		return payload;
+	}
+
+	private static String sign(PrivateKey privateKey, GoogleIdToken.Payload payload) throws GeneralSecurityException, IOException {
+		JsonWebSignature.Header header = new JsonWebSignature.Header();
+		header.setAlgorithm("RS256");
+		header.setType("JWT");
+		header.setKeyId("test-key");
+		return JsonWebSignature.signUsingRsaSha256(privateKey, GsonFactory.getDefaultInstance(), header, payload);
+	}
+
+	private static KeyPair generateKeyPair() throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+
+	/**
+	 * 고정된 공개키를 돌려주는 키 공급원 (강제 갱신 횟수 기록)
+	 */
+	private static final class StaticKeySource implements GooglePublicKeySource {
+
+		private final List<PublicKey> publicKeys;
+		private int refreshCount;
+
+		private StaticKeySource(PublicKey... publicKeys) {
+			this.publicKeys = List.of(publicKeys);
+		}
+
+		@Override
+		public List<PublicKey> getPublicKeys() {
+			return publicKeys;
+		}
+
+		@Override
+		public boolean forceRefresh() {
+			refreshCount++;
+			return false;
+		}
+	}
+}